@@ -0,0 +1,72 @@
+package matteroverdrive.fixtures;
+
+import cpw.mods.fml.common.gameevent.TickEvent;
+import matteroverdrive.api.network.IMatterNetworkClient;
+import matteroverdrive.data.BlockPos;
+import matteroverdrive.matter_network.MatterNetworkPacket;
+import matteroverdrive.matter_network.MatterNetworkPacketQueue;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.world.World;
+import net.minecraftforge.common.util.ForgeDirection;
+
+/**
+ * A matter network client that connects on a single side and only counts the packets it receives.
+ */
+public class FakeNetworkClient extends TileEntity implements IMatterNetworkClient {
+    private final ForgeDirection side;
+    private long networkStamp;
+    private int received;
+
+    public FakeNetworkClient(ForgeDirection side) {
+        this.side = side;
+    }
+
+    public int getReceived() {
+        return received;
+    }
+
+    @Override
+    public BlockPos getPosition() {
+        return new BlockPos(this);
+    }
+
+    @Override
+    public boolean canConnectFromSide(ForgeDirection side) {
+        return this.side == side;
+    }
+
+    @Override
+    public long getNetworkStamp() {
+        return networkStamp;
+    }
+
+    @Override
+    public void setNetworkStamp(long stamp) {
+        this.networkStamp = stamp;
+    }
+
+    @Override
+    public boolean canPreform(MatterNetworkPacket packet) {
+        return true;
+    }
+
+    @Override
+    public void queuePacket(MatterNetworkPacket packet, ForgeDirection from) {
+        received++;
+    }
+
+    @Override
+    public MatterNetworkPacketQueue<MatterNetworkPacket> getPacketQueue(int queueID) {
+        return null;
+    }
+
+    @Override
+    public int getPacketQueueCount() {
+        return 0;
+    }
+
+    @Override
+    public int onNetworkTick(World world, TickEvent.Phase phase) {
+        return 0;
+    }
+}
@@ -0,0 +1,135 @@
+package matteroverdrive.fixtures;
+
+import matteroverdrive.world.BlockChangeWatcher;
+import net.minecraft.block.Block;
+import net.minecraft.entity.Entity;
+import net.minecraft.profiler.Profiler;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldProvider;
+import net.minecraft.world.WorldSettings;
+import net.minecraft.world.chunk.IChunkProvider;
+import net.minecraft.world.storage.ISaveHandler;
+import sun.misc.Unsafe;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A world that only holds tile entities and a single block type, for running the mod's code in benchmarks.
+ * The World constructor needs the save handlers and block registries of a running game, so the world is allocated
+ * without running it. Only the overridden methods below can be used, everything else sees uninitialized fields.
+ * All chunks exist, and every position that has no tile entity holds the fill block.
+ */
+public class FakeWorld extends World {
+    private Map<Long, TileEntity> tileEntities;
+    private IChunkProvider fakeChunkProvider;
+    private Block fill;
+    private long time;
+
+    private FakeWorld() {
+        //never called, instances are created by create
+        super((ISaveHandler) null, null, (WorldSettings) null, (WorldProvider) null, (Profiler) null);
+    }
+
+    /**
+     * @param fill the block at every position.
+     * @return an empty world.
+     */
+    public static FakeWorld create(Block fill) {
+        FakeWorld world;
+        try {
+            world = (FakeWorld) getUnsafe().allocateInstance(FakeWorld.class);
+        } catch (InstantiationException e) {
+            throw new IllegalStateException("Could not allocate the fake world", e);
+        }
+        world.tileEntities = new HashMap<>();
+        world.fill = fill;
+        world.fakeChunkProvider = (IChunkProvider) Proxy.newProxyInstance(IChunkProvider.class.getClassLoader(), new Class[]{IChunkProvider.class}, (proxy, method, args) -> {
+            if (method.getName().equals("chunkExists")) {
+                return true;
+            }
+            throw new UnsupportedOperationException("The fake world has no chunks: " + method.getName());
+        });
+        return world;
+    }
+
+    private static Unsafe getUnsafe() {
+        try {
+            Field field = Unsafe.class.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            return (Unsafe) field.get(null);
+        } catch (NoSuchFieldException | IllegalAccessException e) {
+            throw new IllegalStateException("Could not access Unsafe", e);
+        }
+    }
+
+    public void advanceTime(long ticks) {
+        time += ticks;
+    }
+
+    //region World Access
+    @Override
+    public long getTotalWorldTime() {
+        return time;
+    }
+
+    @Override
+    public IChunkProvider getChunkProvider() {
+        return fakeChunkProvider;
+    }
+
+    @Override
+    public boolean blockExists(int x, int y, int z) {
+        return y >= 0 && y < 256;
+    }
+
+    @Override
+    public Block getBlock(int x, int y, int z) {
+        return fill;
+    }
+
+    @Override
+    public int getBlockMetadata(int x, int y, int z) {
+        return 0;
+    }
+
+    @Override
+    public TileEntity getTileEntity(int x, int y, int z) {
+        return tileEntities.get(BlockChangeWatcher.getKey(x, y, z));
+    }
+
+    @Override
+    public void setTileEntity(int x, int y, int z, TileEntity tileEntity) {
+        tileEntity.setWorldObj(this);
+        tileEntity.xCoord = x;
+        tileEntity.yCoord = y;
+        tileEntity.zCoord = z;
+        tileEntities.put(BlockChangeWatcher.getKey(x, y, z), tileEntity);
+    }
+
+    @Override
+    public void markBlockForUpdate(int x, int y, int z) {
+
+    }
+    //endregion
+
+    //region Unused World Methods
+    @Override
+    protected IChunkProvider createChunkProvider() {
+        return fakeChunkProvider;
+    }
+
+    @Override
+    public Entity getEntityByID(int id) {
+        return null;
+    }
+
+    @Override
+    protected int func_152379_p() {
+        return 0;
+    }
+    //endregion
+}
@@ -0,0 +1,66 @@
+package matteroverdrive.matter_network;
+
+import matteroverdrive.api.network.IMatterNetworkConnection;
+import matteroverdrive.data.BlockPos;
+import matteroverdrive.matter_network.tasks.MatterNetworkTaskReplicatePattern;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraftforge.common.util.ForgeDirection;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the NBT serialization of a full task queue, as done each time a Pattern Monitor or Replicator is saved or synced.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MatterNetworkQueueBenchmark {
+    @Param({"1", "16", "64"})
+    public int size;
+
+    private MatterNetworkTaskQueue<MatterNetworkTaskReplicatePattern> queue;
+    private NBTTagCompound queueNBT;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        if (MatterNetworkRegistry.taskTypes.isEmpty()) {
+            MatterNetworkRegistry.register();
+        }
+
+        IMatterNetworkConnection connection = new IMatterNetworkConnection() {
+            @Override
+            public BlockPos getPosition() {
+                return new BlockPos(0, 64, 0);
+            }
+
+            @Override
+            public boolean canConnectFromSide(ForgeDirection side) {
+                return true;
+            }
+        };
+        queue = new MatterNetworkTaskQueue<>(connection, size);
+        for (int i = 0; i < size; i++) {
+            queue.queue(new MatterNetworkTaskReplicatePattern(connection, (short) (i + 1), (short) 0, (byte) 8));
+        }
+
+        queueNBT = new NBTTagCompound();
+        queue.writeToNBT(queueNBT);
+    }
+
+    @Benchmark
+    public NBTTagCompound writeToNBT() {
+        NBTTagCompound tagCompound = new NBTTagCompound();
+        queue.writeToNBT(tagCompound);
+        return tagCompound;
+    }
+
+    @Benchmark
+    public int readFromNBT() {
+        queue.readFromNBT(queueNBT);
+        return queue.size();
+    }
+}
@@ -0,0 +1,41 @@
+package matteroverdrive.starmap;
+
+import matteroverdrive.starmap.data.Galaxy;
+import matteroverdrive.starmap.data.Star;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the generation of a whole galaxy, as done when a world is created, and the regeneration of a single star.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GalaxyGeneratorBenchmark {
+    private static final long SEED = 8008135L;
+
+    private GalaxyGenerator generator;
+    private Star star;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        generator = new GalaxyGenerator();
+        star = new Star("Benchmark", 0);
+        star.setSeed((int) SEED);
+    }
+
+    @Benchmark
+    public Galaxy generateGalaxy() {
+        return generator.generateGalaxy("Benchmark", 0, SEED, null);
+    }
+
+    @Benchmark
+    public Star generateStar() {
+        generator.generateStar(star, true, true);
+        return star;
+    }
+}
@@ -0,0 +1,57 @@
+package matteroverdrive.tile;
+
+import matteroverdrive.fixtures.FakeWorld;
+import matteroverdrive.machines.MachineNBTCategory;
+import net.minecraft.block.Block;
+import net.minecraft.block.material.Material;
+import net.minecraft.nbt.NBTTagCompound;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.EnumSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the scan for blocks to break around a gravitational anomaly, done every {@link TileEntityGravitationalAnomaly#BLOCK_DESTROY_DELAY} ticks.
+ * The world is filled with an unbreakable block, so nothing is broken and only the scan of the whole range is measured.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TileEntityGravitationalAnomalyBenchmark {
+    /**
+     * Masses with a block break range of about 4, 10 and 20 blocks.
+     */
+    @Param({"10240", "100000", "1000000"})
+    public long mass;
+
+    private FakeWorld world;
+    private TileEntityGravitationalAnomaly anomaly;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        world = FakeWorld.create(new UnbreakableBlock());
+        anomaly = new TileEntityGravitationalAnomaly();
+        world.setTileEntity(0, 128, 0, anomaly);
+
+        NBTTagCompound data = new NBTTagCompound();
+        data.setLong("Mass", mass);
+        data.setFloat("Suppression", 1);
+        anomaly.readCustomNBT(data, EnumSet.of(MachineNBTCategory.DATA));
+    }
+
+    @Benchmark
+    public void scanBlocks() {
+        world.advanceTime(TileEntityGravitationalAnomaly.BLOCK_DESTROY_DELAY);
+        anomaly.manageBlockDestroy(world);
+    }
+
+    private static class UnbreakableBlock extends Block {
+        UnbreakableBlock() {
+            super(Material.rock);
+            setBlockUnbreakable();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package matteroverdrive.util;
+
+import matteroverdrive.Reference;
+import matteroverdrive.fixtures.FakeNetworkClient;
+import matteroverdrive.fixtures.FakeWorld;
+import matteroverdrive.matter_network.packets.MatterNetworkBroadcastPacket;
+import matteroverdrive.tile.pipes.TileEntityNetworkPipe;
+import net.minecraftforge.common.util.ForgeDirection;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a packet broadcast from one client to another over a straight line of network cables.
+ * Each cable passes the packet on to all its other sides, so this covers the tile entity lookups and the packet stamping.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MatterNetworkHelperBenchmark {
+    private static final int Y = 64;
+
+    @Param({"8", "64", "256"})
+    public int length;
+
+    private FakeWorld world;
+    private FakeNetworkClient sender;
+    private FakeNetworkClient receiver;
+    private MatterNetworkBroadcastPacket packet;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        world = FakeWorld.create(null);
+        sender = new FakeNetworkClient(ForgeDirection.EAST);
+        world.setTileEntity(0, Y, 0, sender);
+        for (int x = 1; x <= length; x++) {
+            TileEntityNetworkPipe cable = new TileEntityNetworkPipe();
+            world.setTileEntity(x, Y, 0, cable);
+            cable.setConnections(ForgeDirection.WEST.flag | ForgeDirection.EAST.flag, false);
+        }
+        receiver = new FakeNetworkClient(ForgeDirection.WEST);
+        world.setTileEntity(length + 1, Y, 0, receiver);
+
+        packet = new MatterNetworkBroadcastPacket(sender.getPosition(), Reference.PACKET_BROADCAST_CONNECTION, ForgeDirection.EAST);
+        if (!broadcast()) {
+            throw new IllegalStateException("The packet did not reach the end of the network");
+        }
+    }
+
+    @Benchmark
+    public boolean broadcast() {
+        int received = receiver.getReceived();
+        MatterNetworkHelper.broadcastPacketInDirection(world, packet, sender, ForgeDirection.EAST);
+        return receiver.getReceived() > received;
+    }
+}
@@ -88,6 +88,7 @@ public class MatterOverdrive {
         FMLCommonHandler.instance().bus().register(configHandler);
         tickHandler = new TickHandler(configHandler, playerEventHandler);
         FMLCommonHandler.instance().bus().register(tickHandler);
+        MinecraftForge.EVENT_BUS.register(tickHandler);
         FMLCommonHandler.instance().bus().register(playerEventHandler);
         MinecraftForge.EVENT_BUS.register(playerEventHandler);
         MinecraftForge.EVENT_BUS.register(bucketHandler);
@@ -162,6 +163,7 @@ public class MatterOverdrive {
         event.registerServerCommand(new QuestCommands());
         event.registerServerCommand(new SaveWorldToImage());
         event.registerServerCommand(new WorldGenCommands());
+        event.registerServerCommand(new ProfilerCommands());
     }
 
     @EventHandler
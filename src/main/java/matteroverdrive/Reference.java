@@ -144,6 +144,7 @@ public class Reference {
     //region World Geb
     public static final String CHEST_GEN_ANDROID_HOUSE = "android_house";
     public static final String WORLD_DATA_MO_GEN_POSITIONS = "MOWorldGenPositions";
+    public static final String WORLD_DATA_MO_BUILDING_GENERATION = "MOBuildingGeneration";
     //endregion
 
     //region Unicodes
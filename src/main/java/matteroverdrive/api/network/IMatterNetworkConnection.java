@@ -24,4 +24,24 @@ public interface IMatterNetworkConnection {
      * @return can the connection be made trough the given side.
      */
     boolean canConnectFromSide(ForgeDirection side);
+
+    /**
+     * The generation of the last packet that passed trough the connection.
+     * Used to stop packets from looping trough the network, without storing the path in each packet.
+     * Connections that don't store the stamp return -1, and packets keep track of them on their own.
+     *
+     * @return the generation of the last packet that passed trough the connection, or -1 if the connection is not stamped.
+     */
+    default long getNetworkStamp() {
+        return -1;
+    }
+
+    /**
+     * Marks the connection as passed by a packet of the given generation.
+     *
+     * @param stamp the generation of the packet.
+     */
+    default void setNetworkStamp(long stamp) {
+
+    }
 }
@@ -6,6 +6,7 @@ import net.minecraft.entity.player.EntityPlayer;
 import net.minecraftforge.event.entity.living.LivingDeathEvent;
 import net.minecraftforge.event.entity.player.EntityItemPickupEvent;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Random;
 
@@ -109,6 +110,16 @@ public interface IQuest {
      */
     void initQuestStack(Random random, QuestStack questStack, EntityPlayer entityPlayer);
 
+    /**
+     * The types of events the quest handles in {@link #onEvent(QuestStack, Event, EntityPlayer)}.
+     * Only events of these types, or their subclasses, are passed to the quest.
+     *
+     * @return the event types, or null if the quest handles all events.
+     */
+    default Collection<Class<? extends Event>> getSubscribedEvents() {
+        return null;
+    }
+
     /**
      * Used as a event listener for all Events.
      * Currently supports:
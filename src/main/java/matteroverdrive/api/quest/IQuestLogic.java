@@ -21,6 +21,16 @@ public interface IQuestLogic {
 
     void initQuestStack(Random random, QuestStack questStack);
 
+    /**
+     * The types of events this logic handles in {@link #onEvent(QuestStack, Event, EntityPlayer)}.
+     * Only events of these types, or their subclasses, are passed to the logic.
+     *
+     * @return the event types, or null if the logic handles all events.
+     */
+    default List<Class<? extends Event>> getSubscribedEvents() {
+        return null;
+    }
+
     boolean onEvent(QuestStack questStack, Event event, EntityPlayer entityPlayer);
 
     boolean areQuestStacksEqual(QuestStack questStackOne, QuestStack questStackTwo);
@@ -112,9 +112,6 @@ public class RenderHandler {
     //endregion
     //region Tile Entity Renderers
     private TileEntityRendererReplicator tileEntityRendererReplicator;
-    private TileEntityRendererPipe tileEntityRendererPipe;
-    private TileEntityRendererMatterPipe tileEntityRendererMatterPipe;
-    private TileEntityRendererNetworkPipe tileEntityRendererNetworkPipe;
     private TileEntityRendererPatterStorage tileEntityRendererPatterStorage;
     private TileEntityRendererWeaponStation tileEntityRendererWeaponStation;
     private TileEntityRendererPatternMonitor tileEntityRendererPatternMonitor;
@@ -176,9 +173,6 @@ public class RenderHandler {
 
     public void createTileEntityRenderers(ConfigurationHandler configHandler) {
         tileEntityRendererReplicator = new TileEntityRendererReplicator();
-        tileEntityRendererPipe = new TileEntityRendererPipe();
-        tileEntityRendererMatterPipe = new TileEntityRendererMatterPipe();
-        tileEntityRendererNetworkPipe = new TileEntityRendererNetworkPipe();
         tileEntityRendererPatterStorage = new TileEntityRendererPatterStorage();
         tileEntityRendererWeaponStation = new TileEntityRendererWeaponStation();
         tileEntityRendererPatternMonitor = new TileEntityRendererPatternMonitor();
@@ -195,6 +189,7 @@ public class RenderHandler {
 
         configHandler.subscribe(tileEntityRendererAndroidStation);
         configHandler.subscribe(tileEntityRendererWeaponStation);
+        configHandler.subscribe(renderParticlesHandler);
     }
 
     @SubscribeEvent
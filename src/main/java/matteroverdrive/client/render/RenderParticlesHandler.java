@@ -3,6 +3,8 @@ package matteroverdrive.client.render;
 import cpw.mods.fml.common.gameevent.TickEvent;
 import matteroverdrive.Reference;
 import matteroverdrive.client.RenderHandler;
+import matteroverdrive.handler.ConfigurationHandler;
+import matteroverdrive.util.IConfigSubscriber;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.particle.EntityFX;
 import net.minecraft.client.renderer.ActiveRenderInfo;
@@ -17,24 +19,27 @@ import net.minecraft.world.World;
 import net.minecraftforge.client.event.RenderWorldLastEvent;
 import org.lwjgl.opengl.GL11;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Random;
 import java.util.concurrent.Callable;
 
-public class RenderParticlesHandler implements IWorldLastRenderer {
+public class RenderParticlesHandler implements IWorldLastRenderer, IConfigSubscriber {
+    public static final int DEFAULT_MAX_PARTICLES = 4000;
+    /**
+     * How many random particles are checked when looking for one to replace in a full layer.
+     */
+    private static final int EVICTION_SAMPLES = 8;
     ResourceLocation additiveTextureSheet = new ResourceLocation(Reference.PATH_PARTICLE + "particles_additive.png");
     private TextureManager renderer;
     protected World worldObj;
     private Random rand = new Random();
-    List<EntityFX>[] fxes;
+    ParticleLayer[] fxes;
 
     public RenderParticlesHandler(World world, TextureManager renderer) {
         this.worldObj = world;
         this.renderer = renderer;
-        fxes = new List[Blending.values().length];
+        fxes = new ParticleLayer[Blending.values().length];
         for (int i = 0; i < Blending.values().length; i++) {
-            fxes[i] = new ArrayList<>();
+            fxes[i] = new ParticleLayer(DEFAULT_MAX_PARTICLES);
         }
     }
 
@@ -48,15 +53,33 @@ public class RenderParticlesHandler implements IWorldLastRenderer {
         }
     }
 
+    /**
+     * Adds the particle to the blending layer.
+     * If the layer is full, the particle replaces one further away from the player, or is dropped if it is the furthest.
+     *
+     * @param entityFX      the particle.
+     * @param blendingLayer the blending layer.
+     */
     public void addEffect(EntityFX entityFX, Blending blendingLayer) {
-        fxes[blendingLayer.ordinal()].add(entityFX);
+        if (entityFX != null) {
+            fxes[blendingLayer.ordinal()].add(entityFX, getDistanceSq(entityFX), rand);
+        }
+    }
+
+    private float getDistanceSq(EntityFX entityFX) {
+        Entity viewer = Minecraft.getMinecraft().renderViewEntity;
+        if (viewer != null) {
+            return (float) viewer.getDistanceSqToEntity(entityFX);
+        }
+        return 0;
     }
 
     private void updateEffects() {
         for (int k = 0; k < fxes.length; ++k) {
+            ParticleLayer layer = this.fxes[k];
 
-            for (int j = 0; j < this.fxes[k].size(); ++j) {
-                final EntityFX entityfx = this.fxes[k].get(j);
+            for (int j = 0; j < layer.size; ++j) {
+                final EntityFX entityfx = layer.particles[j];
 
                 try {
                     if (entityfx != null) {
@@ -76,7 +99,10 @@ public class RenderParticlesHandler implements IWorldLastRenderer {
                 }
 
                 if (entityfx == null || entityfx.isDead) {
-                    this.fxes[k].remove(j--);
+                    //swap the last particle into the slot, and check the slot again
+                    layer.removeAt(j--);
+                } else {
+                    layer.distances[j] = getDistanceSq(entityfx);
                 }
             }
         }
@@ -93,7 +119,8 @@ public class RenderParticlesHandler implements IWorldLastRenderer {
         EntityFX.interpPosZ = entity.lastTickPosZ + (entity.posZ - entity.lastTickPosZ) * (double) f;
 
         for (int k = 0; k < fxes.length; ++k) {
-            if (!this.fxes[k].isEmpty()) {
+            ParticleLayer layer = this.fxes[k];
+            if (layer.size > 0) {
                 GL11.glColor4f(1.0F, 1.0F, 1.0F, 1.0F);
                 GL11.glDepthMask(false);
                 GL11.glEnable(GL11.GL_BLEND);
@@ -109,8 +136,8 @@ public class RenderParticlesHandler implements IWorldLastRenderer {
                 Tessellator tessellator = Tessellator.instance;
                 tessellator.startDrawingQuads();
 
-                for (int j = 0; j < this.fxes[k].size(); ++j) {
-                    final EntityFX entityfx = this.fxes[k].get(j);
+                for (int j = 0; j < layer.size; ++j) {
+                    final EntityFX entityfx = layer.particles[j];
                     if (entityfx == null) continue;
                     tessellator.setBrightness(entityfx.getBrightnessForRender(f));
 
@@ -139,4 +166,68 @@ public class RenderParticlesHandler implements IWorldLastRenderer {
     public ResourceLocation getAdditiveTextureSheet() {
         return additiveTextureSheet;
     }
+
+    @Override
+    public void onConfigChanged(ConfigurationHandler config) {
+        int maxParticles = config.getInt("max particles per layer", ConfigurationHandler.CATEGORY_CLIENT, DEFAULT_MAX_PARTICLES, "The maximum number of Matter Overdrive particles of each blending type. When full, the particles furthest away are replaced first");
+        for (ParticleLayer layer : fxes) {
+            layer.setCapacity(Math.max(maxParticles, 1));
+        }
+    }
+
+    /**
+     * A fixed capacity list of particles of the same blending type.
+     * Particles are stored in plain arrays, with the distance to the player kept next to them so a full layer can pick which particle to replace.
+     * Removal swaps the last particle into the removed slot, so it takes constant time.
+     */
+    static class ParticleLayer {
+        EntityFX[] particles;
+        float[] distances;
+        int size;
+
+        ParticleLayer(int capacity) {
+            particles = new EntityFX[capacity];
+            distances = new float[capacity];
+        }
+
+        void add(EntityFX particle, float distance, Random random) {
+            if (size < particles.length) {
+                particles[size] = particle;
+                distances[size] = distance;
+                size++;
+            } else {
+                //sample a few particles and replace the furthest one, if it is further than the new one
+                int furthest = random.nextInt(size);
+                for (int i = 1; i < EVICTION_SAMPLES; i++) {
+                    int index = random.nextInt(size);
+                    if (distances[index] > distances[furthest]) {
+                        furthest = index;
+                    }
+                }
+                if (distances[furthest] > distance) {
+                    particles[furthest] = particle;
+                    distances[furthest] = distance;
+                }
+            }
+        }
+
+        void removeAt(int index) {
+            size--;
+            particles[index] = particles[size];
+            distances[index] = distances[size];
+            particles[size] = null;
+        }
+
+        void setCapacity(int capacity) {
+            if (capacity != particles.length) {
+                EntityFX[] newParticles = new EntityFX[capacity];
+                float[] newDistances = new float[capacity];
+                size = Math.min(size, capacity);
+                System.arraycopy(particles, 0, newParticles, 0, size);
+                System.arraycopy(distances, 0, newDistances, 0, size);
+                particles = newParticles;
+                distances = newDistances;
+            }
+        }
+    }
 }
@@ -3,6 +3,7 @@ package matteroverdrive.client.render.biostat;
 import matteroverdrive.Reference;
 import matteroverdrive.api.renderer.IBioticStatRenderer;
 import matteroverdrive.data.biostats.BioticStatShield;
+import matteroverdrive.entity.player.AndroidEffects;
 import matteroverdrive.entity.player.AndroidPlayer;
 import matteroverdrive.init.MatterOverdriveBioticStats;
 import matteroverdrive.util.RenderUtils;
@@ -129,8 +130,8 @@ public class BioticStatRendererShield implements IBioticStatRenderer<BioticStatS
 
     private void renderAttacks(AndroidPlayer androidPlayer) {
         float opacity = getOpacityLerp(androidPlayer.getPlayer());
-        if (androidPlayer.getEffects().hasKey(BioticStatShield.TAG_HITS)) {
-            NBTTagList hits = androidPlayer.getEffects().getTagList(BioticStatShield.TAG_HITS, 10);
+        if (androidPlayer.getEffects().has(AndroidEffects.SHIELD_HITS)) {
+            NBTTagList hits = androidPlayer.getEffects().getTagList(AndroidEffects.SHIELD_HITS);
             for (int i = 0; i < hits.tagCount(); i++) {
                 renderAttack(new Vector3f(hits.getCompoundTagAt(i).getFloat("x"), -hits.getCompoundTagAt(i).getFloat("y"), -hits.getCompoundTagAt(i).getFloat("z")).normalise(null), (hits.getCompoundTagAt(i).getInteger("time") / 10f) * opacity);
             }
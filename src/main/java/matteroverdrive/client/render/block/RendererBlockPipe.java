@@ -7,11 +7,16 @@ import matteroverdrive.util.math.MOMathHelper;
 import net.minecraft.block.Block;
 import net.minecraft.client.renderer.RenderBlocks;
 import net.minecraft.client.renderer.Tessellator;
+import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.IIcon;
 import net.minecraft.world.IBlockAccess;
 import net.minecraftforge.common.util.ForgeDirection;
 import org.lwjgl.opengl.GL11;
 
+/**
+ * Renders the pipes into the chunk render lists, so their geometry is only built again when the chunk is rendered again,
+ * which {@link TileEntityPipe} triggers when its connections change.
+ */
 public class RendererBlockPipe implements ISimpleBlockRenderingHandler {
     public static int rendererID;
 
@@ -35,9 +40,14 @@ public class RendererBlockPipe implements ISimpleBlockRenderingHandler {
 
     @Override
     public boolean renderWorldBlock(IBlockAccess world, int x, int y, int z, Block block, int modelId, RenderBlocks renderer) {
+        TileEntity tileEntity = world.getTileEntity(x, y, z);
+        if (!(tileEntity instanceof TileEntityPipe)) {
+            return false;
+        }
+
         int meta = world.getBlockMetadata(x, y, z);
         IIcon icon = block.getIcon(world, x, y, z, meta);
-        int connections = ((TileEntityPipe) world.getTileEntity(x, y, z)).getConnectionsMask();
+        int connections = ((TileEntityPipe) tileEntity).getConnectionsMask();
         int brightness = block.getMixedBrightnessForBlock(world, x, y, z);
         renderPipe(x, y, z, block, connections, icon, brightness);
         return true;
@@ -7,10 +7,12 @@ import matteroverdrive.api.renderer.ISpaceBodyHoloRenderer;
 import matteroverdrive.data.IconHolder;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.FontRenderer;
+import net.minecraft.client.renderer.GLAllocation;
 import net.minecraft.util.IIcon;
 import net.minecraft.util.ResourceLocation;
 import net.minecraftforge.client.model.AdvancedModelLoader;
 import net.minecraftforge.client.model.IModelCustom;
+import org.lwjgl.opengl.GL11;
 import org.lwjgl.util.glu.Disk;
 import org.lwjgl.util.glu.Sphere;
 
@@ -26,6 +28,7 @@ public abstract class StarMapRendererAbstract implements ISpaceBodyHoloRenderer
     protected Random random;
     protected IModelCustom sphere_model;
     protected FontRenderer fontRenderer;
+    private int sphereModelList;
 
     public StarMapRendererAbstract() {
         sphere = new Sphere();
@@ -34,4 +37,17 @@ public abstract class StarMapRendererAbstract implements ISpaceBodyHoloRenderer
         sphere_model = AdvancedModelLoader.loadModel(new ResourceLocation(Reference.MODEL_SPHERE));
         fontRenderer = Minecraft.getMinecraft().fontRenderer;
     }
+
+    /**
+     * Renders the sphere model from a display list, compiled the first time it is rendered.
+     */
+    protected void renderSphereModel() {
+        if (sphereModelList == 0) {
+            sphereModelList = GLAllocation.generateDisplayLists(1);
+            GL11.glNewList(sphereModelList, GL11.GL_COMPILE);
+            sphere_model.renderAll();
+            GL11.glEndList();
+        }
+        GL11.glCallList(sphereModelList);
+    }
 }
@@ -14,6 +14,7 @@ import matteroverdrive.tile.TileEntityMachineStarMap;
 import matteroverdrive.util.RenderUtils;
 import matteroverdrive.util.math.MOMathHelper;
 import net.minecraft.client.Minecraft;
+import net.minecraft.client.renderer.GLAllocation;
 import net.minecraft.client.renderer.Tessellator;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.util.EnumChatFormatting;
@@ -28,6 +29,11 @@ import static org.lwjgl.opengl.GL11.*;
 
 @SideOnly(Side.CLIENT)
 public class StarMapRendererStar extends StarMapRendererAbstract {
+    private static final int ORBIT_SEGMENTS = 32;
+    /**
+     * The orbit circle with a radius of 1, scaled to the orbit of each planet.
+     */
+    private int orbitList;
 
     public StarMapRendererStar() {
         sphere = new Sphere();
@@ -58,17 +64,17 @@ public class StarMapRendererStar extends StarMapRendererAbstract {
             glDisable(GL_TEXTURE_2D);
             double s = 0.9 + Math.sin(time * 0.01) * 0.1;
             glScaled(s, s, s);
-            sphere_model.renderAll();
+            renderSphereModel();
             glPolygonMode(GL_FRONT, GL_POINT);
             glPointSize(10 / (float) Math.max(0.1, distance));
 
-            sphere_model.renderAll();
+            renderSphereModel();
             if (Minecraft.getMinecraft().theWorld.getWorldTime() % 120 > 80) {
                 double t = ((Minecraft.getMinecraft().theWorld.getWorldTime() % 120) - 80) / 40d;
                 RenderUtils.applyColorWithMultipy(Reference.COLOR_HOLO_YELLOW, (float) MOMathHelper.easeIn(1 - t, 0, 0.1, 1));
                 s = MOMathHelper.easeIn(t, 0.0, 10, 1);
                 glScaled(1 + s, 1 + s, 1 + s);
-                sphere_model.renderAll();
+                renderSphereModel();
             }
             glPopMatrix();
             glPolygonMode(GL_FRONT, GL_LINE);
@@ -208,14 +214,24 @@ public class StarMapRendererStar extends StarMapRendererAbstract {
     private void drawPlanetOrbit(Planet planet, double radius) {
         glDisable(GL_TEXTURE_2D);
         glPolygonMode(GL_FRONT, GL_LINE);
-        Tessellator.instance.startDrawing(GL_LINES);
-        Tessellator.instance.setColorRGBA_F(Planet.getGuiColor(planet).getFloatR() * 0.1f, Planet.getGuiColor(planet).getFloatG() * 0.1f, Planet.getGuiColor(planet).getFloatB() * 0.1f, Planet.getGuiColor(planet).getFloatA() * 0.1f);
-        for (int i = 0; i < 32; i++) {
-            double angleStep = (Math.PI * 2) / 32;
-            Tessellator.instance.addVertex(Math.sin(angleStep * i) * radius, 0, Math.cos(angleStep * i) * radius);
-            Tessellator.instance.addVertex(Math.sin(angleStep * (i + 1)) * radius, 0, Math.cos(angleStep * (i + 1)) * radius);
+        Color color = Planet.getGuiColor(planet);
+        glColor4f(color.getFloatR() * 0.1f, color.getFloatG() * 0.1f, color.getFloatB() * 0.1f, color.getFloatA() * 0.1f);
+        if (orbitList == 0) {
+            orbitList = GLAllocation.generateDisplayLists(1);
+            glNewList(orbitList, GL_COMPILE);
+            Tessellator.instance.startDrawing(GL_LINES);
+            for (int i = 0; i < ORBIT_SEGMENTS; i++) {
+                double angleStep = (Math.PI * 2) / ORBIT_SEGMENTS;
+                Tessellator.instance.addVertex(Math.sin(angleStep * i), 0, Math.cos(angleStep * i));
+                Tessellator.instance.addVertex(Math.sin(angleStep * (i + 1)), 0, Math.cos(angleStep * (i + 1)));
+            }
+            Tessellator.instance.draw();
+            glEndList();
         }
-        Tessellator.instance.draw();
+        glPushMatrix();
+        glScaled(radius, 1, radius);
+        glCallList(orbitList);
+        glPopMatrix();
     }
 
 
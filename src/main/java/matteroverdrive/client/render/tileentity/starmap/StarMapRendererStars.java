@@ -3,22 +3,46 @@ package matteroverdrive.client.render.tileentity.starmap;
 import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
 import matteroverdrive.Reference;
+import matteroverdrive.api.starmap.GalacticPosition;
 import matteroverdrive.client.data.Color;
 import matteroverdrive.proxy.ClientProxy;
+import matteroverdrive.starmap.GalaxyClient;
 import matteroverdrive.starmap.data.Quadrant;
 import matteroverdrive.starmap.data.Star;
 import matteroverdrive.tile.TileEntityMachineStarMap;
 import matteroverdrive.util.RenderUtils;
 import net.minecraft.client.Minecraft;
+import net.minecraft.client.renderer.GLAllocation;
 import net.minecraft.client.renderer.Tessellator;
+import net.minecraft.entity.EntityLivingBase;
 import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.util.IIcon;
+import net.minecraft.util.MathHelper;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.Vec3;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 import static org.lwjgl.opengl.GL11.*;
 
 @SideOnly(Side.CLIENT)
 public abstract class StarMapRendererStars extends StarMapRendererAbstract {
+    /**
+     * The stars of each quadrant, compiled into a display list by quadrant ID.
+     * Each zoom level has its own renderer, so the lists are kept per zoom level and quadrant.
+     */
+    private final Map<Integer, QuadrantStars> quadrantStars = new HashMap<>();
+    /**
+     * A star particle of unit size at the origin, facing the viewer.
+     * The quadrant lists only call it at the position and size of each star, so only this list is compiled again when the viewer turns.
+     */
+    private int billboardList;
+    private boolean billboardCompiled;
+    private float billboardYaw, billboardPitch;
+
     protected void renderStars(Quadrant quadrant, TileEntityMachineStarMap starMap, double distanceMultiply, double starSizeMultiply) {
         EntityPlayer player = Minecraft.getMinecraft().thePlayer;
         glColor4d(1, 1, 1, 1);
@@ -27,21 +51,26 @@ public abstract class StarMapRendererStars extends StarMapRendererAbstract {
         if (quadrant != null) {
             glLineWidth(1);
 
-            Tessellator.instance.startDrawingQuads();
-            Star from = null, to = null;
+            Star from = getStar(quadrant, starMap.getGalaxyPosition());
+            Star to = getStar(quadrant, starMap.getDestination());
             bindTexture(ClientProxy.renderHandler.getRenderParticlesHandler().getAdditiveTextureSheet());
-            for (Star star : quadrant.getStars()) {
-                pos.xCoord = star.getPosition().xCoord * distanceMultiply;
-                pos.yCoord = star.getPosition().yCoord * distanceMultiply;
-                pos.zCoord = star.getPosition().zCoord * distanceMultiply;
-                drawStarParticle(quadrant, star, pos, player, starMap, starSizeMultiply);
-                if (starMap.getGalaxyPosition().equals(star)) {
-                    from = star;
-                }
-                if (starMap.getDestination().equals(star)) {
-                    to = star;
+            updateBillboard(Minecraft.getMinecraft().renderViewEntity);
+            QuadrantStars stars = getQuadrantStars(quadrant);
+            stars.render(quadrant, player, distanceMultiply, starSizeMultiply);
+
+            //the highlighted stars are drawn each frame, as they change with the selection of each starmap
+            Tessellator.instance.startDrawingQuads();
+            for (Star star : stars.getClaimed()) {
+                if (star != from && star != to) {
+                    drawStarParticle(quadrant, star, getPosition(star, pos, distanceMultiply), player, starMap, starSizeMultiply);
                 }
             }
+            if (from != null) {
+                drawStarParticle(quadrant, from, getPosition(from, pos, distanceMultiply), player, starMap, starSizeMultiply);
+            }
+            if (to != null && to != from) {
+                drawStarParticle(quadrant, to, getPosition(to, pos, distanceMultiply), player, starMap, starSizeMultiply);
+            }
 
             if (from != null && to != null && from != to)
                 drawConnection(from, to, distanceMultiply);
@@ -49,6 +78,64 @@ public abstract class StarMapRendererStars extends StarMapRendererAbstract {
         }
     }
 
+    private QuadrantStars getQuadrantStars(Quadrant quadrant) {
+        QuadrantStars stars = quadrantStars.get(quadrant.getId());
+        if (stars == null) {
+            stars = new QuadrantStars();
+            quadrantStars.put(quadrant.getId(), stars);
+        }
+        return stars;
+    }
+
+    private void updateBillboard(EntityLivingBase viewer) {
+        if (billboardCompiled && billboardYaw == viewer.rotationYaw && billboardPitch == viewer.rotationPitch) {
+            return;
+        }
+
+        if (billboardList == 0) {
+            billboardList = GLAllocation.generateDisplayLists(1);
+        }
+
+        //same orientation as RenderUtils.tessalateParticle, without the color so each star can set its own
+        float cosYaw = MathHelper.cos(viewer.rotationYaw * 0.017453292F);
+        float sinYaw = MathHelper.sin(viewer.rotationYaw * 0.017453292F);
+        float f3 = -sinYaw * MathHelper.sin(viewer.rotationPitch * 0.017453292F);
+        float f4 = cosYaw * MathHelper.sin(viewer.rotationPitch * 0.017453292F);
+        float cosPitch = MathHelper.cos(viewer.rotationPitch * 0.017453292F);
+        IIcon icon = star_icon;
+
+        glNewList(billboardList, GL_COMPILE);
+        glBegin(GL_QUADS);
+        glTexCoord2f(icon.getMaxU(), icon.getMaxV());
+        glVertex3f(-cosYaw - f3, -cosPitch, -sinYaw - f4);
+        glTexCoord2f(icon.getMaxU(), icon.getMinV());
+        glVertex3f(-cosYaw + f3, cosPitch, -sinYaw + f4);
+        glTexCoord2f(icon.getMinU(), icon.getMinV());
+        glVertex3f(cosYaw + f3, cosPitch, sinYaw + f4);
+        glTexCoord2f(icon.getMinU(), icon.getMaxV());
+        glVertex3f(cosYaw - f3, -cosPitch, sinYaw - f4);
+        glEnd();
+        glEndList();
+
+        billboardCompiled = true;
+        billboardYaw = viewer.rotationYaw;
+        billboardPitch = viewer.rotationPitch;
+    }
+
+    private static Star getStar(Quadrant quadrant, GalacticPosition position) {
+        if (position.getQuadrantID() >= 0 && position.equals(quadrant)) {
+            return quadrant.star(position.getStarID());
+        }
+        return null;
+    }
+
+    private static Vec3 getPosition(Star star, Vec3 pos, double distanceMultiply) {
+        pos.xCoord = star.getPosition().xCoord * distanceMultiply;
+        pos.yCoord = star.getPosition().yCoord * distanceMultiply;
+        pos.zCoord = star.getPosition().zCoord * distanceMultiply;
+        return pos;
+    }
+
     protected void drawConnection(Star from, Star to, double distanceMultiply) {
         glDisable(GL_TEXTURE_2D);
         RenderUtils.applyColorWithMultipy(Reference.COLOR_HOLO, 0.3f);
@@ -83,4 +170,63 @@ public abstract class StarMapRendererStars extends StarMapRendererAbstract {
     public static Color getStarColor(Star star, EntityPlayer player) {
         return new Color(star.getColor());
     }
+
+    /**
+     * The display list of the stars of a quadrant.
+     * The selected stars stay in the list, so changing the selection does not compile it again; their highlight is drawn on top of them.
+     * Each star only calls the billboard list at its own position, size and color, so the list does not depend on the view
+     * and is only compiled again when the galaxy data or the scale change.
+     * Claimed stars are left out and drawn with the selected ones, as their particle is bigger.
+     */
+    private class QuadrantStars {
+        private final List<Star> claimed = new ArrayList<>();
+        private int displayList;
+        private boolean compiled;
+        private int galaxyVersion;
+        private double distanceMultiply, starSizeMultiply;
+
+        void render(Quadrant quadrant, EntityPlayer player, double distanceMultiply, double starSizeMultiply) {
+            if (!compiled ||
+                    galaxyVersion != GalaxyClient.getInstance().getVersion() ||
+                    this.distanceMultiply != distanceMultiply ||
+                    this.starSizeMultiply != starSizeMultiply) {
+                compile(quadrant, player, distanceMultiply, starSizeMultiply);
+                galaxyVersion = GalaxyClient.getInstance().getVersion();
+                this.distanceMultiply = distanceMultiply;
+                this.starSizeMultiply = starSizeMultiply;
+            }
+            glCallList(displayList);
+        }
+
+        List<Star> getClaimed() {
+            return claimed;
+        }
+
+        private void compile(Quadrant quadrant, EntityPlayer player, double distanceMultiply, double starSizeMultiply) {
+            if (displayList == 0) {
+                displayList = GLAllocation.generateDisplayLists(1);
+            }
+
+            claimed.clear();
+            glNewList(displayList, GL_COMPILE);
+            for (Star star : quadrant.getStars()) {
+                if (star.isClaimed(player) == 3) {
+                    claimed.add(star);
+                    continue;
+                }
+
+                Color color = getStarColor(star, player);
+                double size = star.getSize() * 0.01 * starSizeMultiply;
+                glPushMatrix();
+                glTranslated(star.getPosition().xCoord * distanceMultiply, star.getPosition().yCoord * distanceMultiply, star.getPosition().zCoord * distanceMultiply);
+                glScaled(size, size, size);
+                glColor4f(color.getFloatR(), color.getFloatG(), color.getFloatB(), color.getFloatA());
+                //the billboard list is looked up when this list is called, so it follows the view without compiling this list again
+                glCallList(billboardList);
+                glPopMatrix();
+            }
+            glEndList();
+            compiled = true;
+        }
+    }
 }
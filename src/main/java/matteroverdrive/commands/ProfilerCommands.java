@@ -0,0 +1,96 @@
+package matteroverdrive.commands;
+
+import matteroverdrive.handler.TickProfiler;
+import net.minecraft.command.CommandBase;
+import net.minecraft.command.CommandException;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.util.ChatComponentText;
+import net.minecraft.util.EnumChatFormatting;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ProfilerCommands extends CommandBase {
+    private static final int DEFAULT_TILE_COUNT = 10;
+
+    @Override
+    public String getCommandName() {
+        return "mo_profiler";
+    }
+
+    @Override
+    public int getRequiredPermissionLevel() {
+        return 2;
+    }
+
+    @Override
+    public String getCommandUsage(ICommandSender commandSender) {
+        return "mo_profiler <start|stop|dump> [tile count]";
+    }
+
+    @Override
+    public void processCommand(ICommandSender commandSender, String[] parameters) {
+        if (parameters.length > 0) {
+            if (parameters[0].equalsIgnoreCase("start")) {
+                TickProfiler.startWindow();
+                commandSender.addChatMessage(new ChatComponentText(EnumChatFormatting.GOLD + "[Profiler]" + EnumChatFormatting.RESET + " Started profiling."));
+            } else if (parameters[0].equalsIgnoreCase("stop")) {
+                if (!TickProfiler.isRunning()) {
+                    throw new CommandException("The profiler is not running.");
+                }
+                TickProfiler.stopWindow();
+                commandSender.addChatMessage(new ChatComponentText(EnumChatFormatting.GOLD + "[Profiler]" + EnumChatFormatting.RESET + String.format(" Stopped profiling after %s ticks.", TickProfiler.getTicks())));
+            } else if (parameters[0].equalsIgnoreCase("dump")) {
+                int tileCount = parameters.length > 1 ? parseIntBounded(commandSender, parameters[1], 0, 100) : DEFAULT_TILE_COUNT;
+                dump(commandSender, tileCount);
+            } else {
+                throw new CommandException("Invalid profiler command.");
+            }
+        } else {
+            throw new CommandException("Invalid command.");
+        }
+    }
+
+    private void dump(ICommandSender commandSender, int tileCount) {
+        int ticks = TickProfiler.getTicks();
+        if (ticks <= 0) {
+            throw new CommandException("No ticks were profiled.");
+        }
+
+        commandSender.addChatMessage(new ChatComponentText(EnumChatFormatting.GOLD + String.format("[Profiler] %s ticks in %.1f s", ticks, TickProfiler.getWindowLength() / 1e9)));
+        for (TickProfiler.Section section : TickProfiler.Section.values()) {
+            TickProfiler.SectionStats stats = TickProfiler.getStats(section);
+            if (stats.getCalls() > 0) {
+                commandSender.addChatMessage(new ChatComponentText(String.format("%s%s%s: %.2f ms total, %s calls, %.3f ms/tick avg, %.3f ms/tick max",
+                        EnumChatFormatting.YELLOW, section.getName(), EnumChatFormatting.RESET,
+                        toMillis(stats.getTotalTime()), stats.getCalls(), toMillis(stats.getTotalTime()) / ticks, toMillis(stats.getMaxTickTime()))));
+            }
+        }
+
+        List<TickProfiler.TileStats> tiles = TickProfiler.getMostExpensiveTiles(tileCount);
+        if (!tiles.isEmpty()) {
+            commandSender.addChatMessage(new ChatComponentText(EnumChatFormatting.GOLD + "Most expensive tile entities:"));
+            for (TickProfiler.TileStats tile : tiles) {
+                commandSender.addChatMessage(new ChatComponentText(String.format("%s%s%s [%s] dim %s at %s, %s, %s: %.3f ms/tick",
+                        EnumChatFormatting.YELLOW, tile.getType().getSimpleName(), EnumChatFormatting.RESET, tile.getSection().getName(),
+                        tile.getDimension(), tile.getX(), tile.getY(), tile.getZ(), toMillis(tile.getTime()) / ticks)));
+            }
+        }
+    }
+
+    private static double toMillis(long nanoTime) {
+        return nanoTime / 1e6;
+    }
+
+    @Override
+    public List addTabCompletionOptions(ICommandSender commandSender, String[] parameters) {
+        List<String> commands = new ArrayList<>();
+
+        if (parameters.length == 1) {
+            commands.add("start");
+            commands.add("stop");
+            commands.add("dump");
+        }
+        return commands;
+    }
+}
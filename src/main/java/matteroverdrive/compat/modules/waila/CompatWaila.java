@@ -7,6 +7,7 @@ import matteroverdrive.compat.Compat;
 import matteroverdrive.machines.fusionReactorController.TileEntityMachineFusionReactorController;
 import matteroverdrive.machines.transporter.TileEntityMachineTransporter;
 import matteroverdrive.tile.TileEntityMachineDecomposer;
+import matteroverdrive.tile.TileEntityMachinePatternMonitor;
 import matteroverdrive.tile.TileEntityMachineReplicator;
 import matteroverdrive.tile.TileEntityMachineStarMap;
 import matteroverdrive.tile.TileEntityWeaponStation;
@@ -29,6 +30,7 @@ public class CompatWaila {
         registrar.registerBodyProvider(new TileEntityMachineTransporter(), BlockTransporter.class);
         registrar.registerBodyProvider(new TileEntityMachineDecomposer(), BlockDecomposer.class);
         registrar.registerBodyProvider(new TileEntityMachineReplicator(), BlockReplicator.class);
+        registrar.registerBodyProvider(new TileEntityMachinePatternMonitor(), BlockPatternMonitor.class);
         registrar.registerBodyProvider(new TileEntityMachineFusionReactorController(), BlockFusionReactorController.class);
     }
 }
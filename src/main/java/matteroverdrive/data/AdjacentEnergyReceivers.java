@@ -0,0 +1,140 @@
+package matteroverdrive.data;
+
+import cofh.api.energy.IEnergyReceiver;
+import matteroverdrive.util.TimeTracker;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraftforge.common.util.ForgeDirection;
+
+/**
+ * The energy receivers next to a tile entity.
+ * The neighbours are looked up again only after {@link #markDirty()}, which the owner calls when a neighbour block changes,
+ * or when a cached receiver was invalidated or its chunk was unloaded.
+ * A chunk loading does not notify its neighbours, so while a side is in an unloaded chunk the neighbours are looked up
+ * again every {@link #UNLOADED_RETRY_DELAY} ticks.
+ */
+public class AdjacentEnergyReceivers {
+    public static final int UNLOADED_RETRY_DELAY = 20;
+    private final TileEntity tileEntity;
+    private final IEnergyReceiver[] receivers = new IEnergyReceiver[6];
+    /**
+     * The side of each receiver the energy is inserted from.
+     */
+    private final ForgeDirection[] sides = new ForgeDirection[6];
+    /**
+     * The chunk of each receiver that is not in the chunk of the tile entity, as those can unload on their own.
+     */
+    private final Chunk[] chunks = new Chunk[6];
+    private int count;
+    private boolean dirty = true;
+    private boolean hasUnloadedSides;
+    private final TimeTracker unloadedRetryTimer = new TimeTracker();
+
+    public AdjacentEnergyReceivers(TileEntity tileEntity) {
+        this.tileEntity = tileEntity;
+    }
+
+    public void markDirty() {
+        dirty = true;
+    }
+
+    /**
+     * Inserts energy into the adjacent receivers, one after the other.
+     *
+     * @param amount         the energy available.
+     * @param maxPerReceiver the max energy inserted into a single receiver.
+     * @param start          the receiver to start from, so energy can be spread over several ticks.
+     * @param simulate       only simulate the insertion.
+     * @return the energy that was inserted.
+     */
+    public int insertEnergy(int amount, int maxPerReceiver, int start, boolean simulate) {
+        if (needsRefresh()) {
+            refresh();
+        }
+
+        int inserted = 0;
+        for (int i = 0; i < count; i++) {
+            int index = (i + start) % count;
+            if (!isReceiverValid(index)) {
+                dirty = true;
+                continue;
+            }
+
+            int energy = Math.min(amount - inserted, maxPerReceiver);
+            if (energy <= 0) {
+                break;
+            }
+            inserted += receivers[index].receiveEnergy(sides[index], energy, simulate);
+        }
+        return inserted;
+    }
+
+    public int getCount() {
+        if (needsRefresh()) {
+            refresh();
+        }
+        return count;
+    }
+
+    private boolean needsRefresh() {
+        return dirty || (hasUnloadedSides && unloadedRetryTimer.hasDelayPassed(tileEntity.getWorldObj(), UNLOADED_RETRY_DELAY));
+    }
+
+    private void refresh() {
+        clear();
+        World world = tileEntity.getWorldObj();
+        if (world == null) {
+            return;
+        }
+        unloadedRetryTimer.markTime(world);
+
+        for (ForgeDirection direction : ForgeDirection.VALID_DIRECTIONS) {
+            int x = tileEntity.xCoord + direction.offsetX;
+            int y = tileEntity.yCoord + direction.offsetY;
+            int z = tileEntity.zCoord + direction.offsetZ;
+            if (!world.blockExists(x, y, z)) {
+                hasUnloadedSides = true;
+                continue;
+            }
+
+            TileEntity neighbour = world.getTileEntity(x, y, z);
+            if (neighbour instanceof IEnergyReceiver) {
+                receivers[count] = (IEnergyReceiver) neighbour;
+                sides[count] = direction.getOpposite();
+                if (x >> 4 != tileEntity.xCoord >> 4 || z >> 4 != tileEntity.zCoord >> 4) {
+                    chunks[count] = world.getChunkFromBlockCoords(x, z);
+                }
+                count++;
+            }
+        }
+        dirty = false;
+    }
+
+    private boolean isReceiverValid(int index) {
+        if (((TileEntity) receivers[index]).isInvalid()) {
+            return false;
+        }
+
+        Chunk chunk = chunks[index];
+        if (chunk != null) {
+            World world = tileEntity.getWorldObj();
+            return world.getChunkProvider().chunkExists(chunk.xPosition, chunk.zPosition) && world.getChunkFromChunkCoords(chunk.xPosition, chunk.zPosition) == chunk;
+        }
+        return true;
+    }
+
+    /**
+     * Drops the cached receivers, so they can be collected.
+     */
+    public void clear() {
+        for (int i = 0; i < count; i++) {
+            receivers[i] = null;
+            sides[i] = null;
+            chunks[i] = null;
+        }
+        count = 0;
+        dirty = true;
+        hasUnloadedSides = false;
+    }
+}
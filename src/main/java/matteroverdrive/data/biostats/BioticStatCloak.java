@@ -2,6 +2,7 @@ package matteroverdrive.data.biostats;
 
 import com.google.common.collect.Multimap;
 import matteroverdrive.Reference;
+import matteroverdrive.entity.player.AndroidEffects;
 import matteroverdrive.entity.player.AndroidPlayer;
 import matteroverdrive.handler.ConfigurationHandler;
 import matteroverdrive.util.IConfigSubscriber;
@@ -9,8 +10,6 @@ import matteroverdrive.util.MOEnergyHelper;
 import net.minecraft.util.EnumChatFormatting;
 import net.minecraftforge.event.entity.living.LivingEvent;
 
-import java.util.EnumSet;
-
 public class BioticStatCloak extends AbstractBioticStat implements IConfigSubscriber {
     public static int ENERGY_PER_TICK = 128;
 
@@ -46,13 +45,12 @@ public class BioticStatCloak extends AbstractBioticStat implements IConfigSubscr
     @Override
     public void onActionKeyPress(AndroidPlayer android, int level, boolean server) {
         if (this.equals(android.getActiveStat()) && server) {
-            setActive(android, level, !android.getEffects().getBoolean("Cloaked"));
+            setActive(android, level, !android.getEffects().getBoolean(AndroidEffects.CLOAKED));
         }
     }
 
     public void setActive(AndroidPlayer android, int level, boolean active) {
-        android.getEffects().setBoolean("Cloaked", active);
-        android.sync(EnumSet.of(AndroidPlayer.DataType.EFFECTS), true);
+        android.getEffects().setBoolean(AndroidEffects.CLOAKED, active);
     }
 
     @Override
@@ -79,7 +77,7 @@ public class BioticStatCloak extends AbstractBioticStat implements IConfigSubscr
 
     @Override
     public boolean isActive(AndroidPlayer androidPlayer, int level) {
-        return androidPlayer.getEffects().getBoolean("Cloaked") && !androidPlayer.getPlayer().isUsingItem();
+        return androidPlayer.getEffects().getBoolean(AndroidEffects.CLOAKED) && !androidPlayer.getPlayer().isUsingItem();
     }
 
     @Override
@@ -6,6 +6,7 @@ import cpw.mods.fml.relauncher.SideOnly;
 import matteroverdrive.Reference;
 import matteroverdrive.api.events.bionicStats.MOEventBionicStat;
 import matteroverdrive.client.sound.MOPositionedSound;
+import matteroverdrive.entity.player.AndroidEffects;
 import matteroverdrive.entity.player.AndroidPlayer;
 import matteroverdrive.handler.ConfigurationHandler;
 import matteroverdrive.util.IConfigSubscriber;
@@ -19,8 +20,6 @@ import net.minecraft.util.ResourceLocation;
 import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.event.entity.living.LivingEvent;
 
-import java.util.EnumSet;
-
 public class BioticStatNightVision extends AbstractBioticStat implements IConfigSubscriber {
     public static int ENERGY_PER_TICK = 16;
 
@@ -55,8 +54,7 @@ public class BioticStatNightVision extends AbstractBioticStat implements IConfig
 
     public void setActive(AndroidPlayer androidPlayer, int level, boolean active) {
         androidPlayer.getPlayer().addPotionEffect(new PotionEffect(Potion.nightVision.id, 500));
-        androidPlayer.getEffects().setBoolean("Nightvision", active);
-        androidPlayer.sync(EnumSet.of(AndroidPlayer.DataType.EFFECTS), true);
+        androidPlayer.getEffects().setBoolean(AndroidEffects.NIGHTVISION, active);
     }
 
     @Override
@@ -64,7 +62,7 @@ public class BioticStatNightVision extends AbstractBioticStat implements IConfig
         if (this.equals(android.getActiveStat())) {
             if (server) {
                 if (!MinecraftForge.EVENT_BUS.post(new MOEventBionicStat(this, level, android))) {
-                    setActive(android, level, !android.getEffects().getBoolean("Nightvision"));
+                    setActive(android, level, !android.getEffects().getBoolean(AndroidEffects.NIGHTVISION));
                 }
             } else {
                 if (!MinecraftForge.EVENT_BUS.post(new MOEventBionicStat(this, level, android))) {
@@ -76,7 +74,7 @@ public class BioticStatNightVision extends AbstractBioticStat implements IConfig
 
     @SideOnly(Side.CLIENT)
     protected void playSound(AndroidPlayer android) {
-        if (!android.getEffects().getBoolean("Nightvision")) {
+        if (!android.getEffects().getBoolean(AndroidEffects.NIGHTVISION)) {
             MOPositionedSound sound = new MOPositionedSound(new ResourceLocation(Reference.MOD_ID + ":night_vision"), 0.05f + android.getPlayer().getRNG().nextFloat() * 0.1f, 0.95f + android.getPlayer().getRNG().nextFloat() * 0.1f);
             sound.setAttenuationType(ISound.AttenuationType.NONE);
             Minecraft.getMinecraft().getSoundHandler().playSound(sound);
@@ -110,7 +108,7 @@ public class BioticStatNightVision extends AbstractBioticStat implements IConfig
 
     @Override
     public boolean isActive(AndroidPlayer androidPlayer, int level) {
-        return androidPlayer.getEffects().getBoolean("Nightvision");
+        return androidPlayer.getEffects().getBoolean(AndroidEffects.NIGHTVISION);
     }
 
     @Override
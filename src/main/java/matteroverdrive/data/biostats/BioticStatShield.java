@@ -7,6 +7,7 @@ import matteroverdrive.Reference;
 import matteroverdrive.api.events.bionicStats.MOEventBionicStat;
 import matteroverdrive.client.sound.MOPositionedSound;
 import matteroverdrive.entity.player.AndroidAttributes;
+import matteroverdrive.entity.player.AndroidEffects;
 import matteroverdrive.entity.player.AndroidPlayer;
 import matteroverdrive.handler.ConfigurationHandler;
 import matteroverdrive.handler.KeyHandler;
@@ -25,7 +26,6 @@ import net.minecraftforge.event.entity.living.LivingEvent;
 import net.minecraftforge.event.entity.living.LivingHurtEvent;
 import org.lwjgl.input.Keyboard;
 
-import java.util.EnumSet;
 import java.util.Random;
 import java.util.UUID;
 
@@ -53,12 +53,12 @@ public class BioticStatShield extends AbstractBioticStat implements IConfigSubsc
     @Override
     public void onAndroidUpdate(AndroidPlayer android, int level) {
         if (!android.getPlayer().worldObj.isRemote) {
-            if (android.getEffects().getBoolean(TAG_SHIELD)) {
+            if (android.getEffects().getBoolean(AndroidEffects.SHIELD)) {
                 android.extractEnergyScaled(ENERGY_PER_TICK);
             }
 
-            if (android.getEffects().hasKey(TAG_HITS)) {
-                NBTTagList attackList = android.getEffects().getTagList(TAG_HITS, 10);
+            if (android.getEffects().has(AndroidEffects.SHIELD_HITS)) {
+                NBTTagList attackList = android.getEffects().getTagList(AndroidEffects.SHIELD_HITS);
 
                 if (attackList.tagCount() > 0) {
                     if (attackList.getCompoundTagAt(0).getInteger("time") > 0) {
@@ -66,11 +66,10 @@ public class BioticStatShield extends AbstractBioticStat implements IConfigSubsc
                     } else {
                         attackList.removeTag(0);
                     }
+                    android.getEffects().markChanged(AndroidEffects.SHIELD_HITS);
                 } else {
-                    android.getEffects().removeTag(TAG_HITS);
+                    android.getEffects().remove(AndroidEffects.SHIELD_HITS);
                 }
-
-                android.sync(EnumSet.of(AndroidPlayer.DataType.EFFECTS), true);
             }
         }
     }
@@ -79,7 +78,6 @@ public class BioticStatShield extends AbstractBioticStat implements IConfigSubsc
     public void onActionKeyPress(AndroidPlayer androidPlayer, int level, boolean server) {
         if (this.equals(androidPlayer.getActiveStat()) && canActivate(androidPlayer) && !MinecraftForge.EVENT_BUS.post(new MOEventBionicStat(this, level, androidPlayer))) {
             setShield(androidPlayer, true);
-            androidPlayer.sync(EnumSet.of(AndroidPlayer.DataType.EFFECTS), true);
         }
     }
 
@@ -89,9 +87,8 @@ public class BioticStatShield extends AbstractBioticStat implements IConfigSubsc
     }
 
     public void setShield(AndroidPlayer androidPlayer, boolean on) {
-        androidPlayer.getEffects().setBoolean(TAG_SHIELD, on);
+        androidPlayer.getEffects().setBoolean(AndroidEffects.SHIELD, on);
         setLastShieldTime(androidPlayer, androidPlayer.getPlayer().worldObj.getTotalWorldTime() + SHIELD_COOLDOWN + SHIELD_TIME);
-        androidPlayer.sync(EnumSet.of(AndroidPlayer.DataType.EFFECTS), true);
         androidPlayer.getPlayer().worldObj.playSoundAtEntity(androidPlayer.getPlayer(), Reference.MOD_ID + ":" + "shield_power_up", 0.6f + random.nextFloat() * 0.2f, 1);
         //androidPlayer.getPlayer().getAttributeMap().getAttributeInstance(SharedMonsterAttributes.movementSpeed).removeModifier(modifyer);
         //androidPlayer.getPlayer().getAttributeMap().getAttributeInstance(SharedMonsterAttributes.movementSpeed).applyModifier(modifyer);
@@ -108,15 +105,15 @@ public class BioticStatShield extends AbstractBioticStat implements IConfigSubsc
     }
 
     public boolean getShieldState(AndroidPlayer androidPlayer) {
-        return androidPlayer.getEffects().getBoolean(TAG_SHIELD);
+        return androidPlayer.getEffects().getBoolean(AndroidEffects.SHIELD);
     }
 
     public long getLastShieldTime(AndroidPlayer androidPlayer) {
-        return androidPlayer.getEffects().getLong("TAG_SHIELD_LAST_USE");
+        return androidPlayer.getEffects().getLong(AndroidEffects.SHIELD_LAST_USE);
     }
 
     public void setLastShieldTime(AndroidPlayer androidPlayer, long time) {
-        androidPlayer.getEffects().setLong("TAG_SHIELD_LAST_USE", time);
+        androidPlayer.getEffects().setLong(AndroidEffects.SHIELD_LAST_USE, time);
     }
 
     public boolean canActivate(AndroidPlayer androidPlayer) {
@@ -134,14 +131,13 @@ public class BioticStatShield extends AbstractBioticStat implements IConfigSubsc
                     if (source.getSourceOfDamage() != null) {
 
                         NBTTagCompound attack = new NBTTagCompound();
-                        NBTTagList attackList = androidPlayer.getEffects().getTagList(TAG_HITS, 10);
+                        NBTTagList attackList = androidPlayer.getEffects().getTagList(AndroidEffects.SHIELD_HITS);
                         attack.setDouble("x", source.getSourceOfDamage().posX - event.entityLiving.posX);
                         attack.setDouble("y", source.getSourceOfDamage().posY - (event.entityLiving.posY + 1.5));
                         attack.setDouble("z", source.getSourceOfDamage().posZ - event.entityLiving.posZ);
                         attack.setInteger("time", 10);
                         attackList.appendTag(attack);
-                        androidPlayer.getEffects().setTag(TAG_HITS, attackList);
-                        androidPlayer.sync(EnumSet.of(AndroidPlayer.DataType.EFFECTS), true);
+                        androidPlayer.getEffects().setTag(AndroidEffects.SHIELD_HITS, attackList);
                         androidPlayer.getPlayer().worldObj.playSoundAtEntity(androidPlayer.getPlayer(), Reference.MOD_ID + ":" + "shield_hit", 0.5f, 0.9f + random.nextFloat() * 0.2f);
                     }
 
@@ -173,17 +169,16 @@ public class BioticStatShield extends AbstractBioticStat implements IConfigSubsc
     @Override
     public void changeAndroidStats(AndroidPlayer androidPlayer, int level, boolean enabled) {
         if (androidPlayer.getPlayer().worldObj.isRemote) {
-            if (!androidPlayer.getEffects().getBoolean(TAG_SHIELD)) {
+            if (!androidPlayer.getEffects().getBoolean(AndroidEffects.SHIELD)) {
                 stopShieldSound();
             } else {
                 playShieldSound();
             }
         } else {
             long shieldTime = getLastShieldTime(androidPlayer) - androidPlayer.getPlayer().worldObj.getTotalWorldTime();
-            if (shieldTime < SHIELD_COOLDOWN && androidPlayer.getEffects().getBoolean(TAG_SHIELD)) {
-                androidPlayer.getEffects().setBoolean(TAG_SHIELD, false);
-                androidPlayer.getEffects().removeTag(TAG_HITS);
-                androidPlayer.sync(EnumSet.of(AndroidPlayer.DataType.EFFECTS), true);
+            if (shieldTime < SHIELD_COOLDOWN && androidPlayer.getEffects().getBoolean(AndroidEffects.SHIELD)) {
+                androidPlayer.getEffects().setBoolean(AndroidEffects.SHIELD, false);
+                androidPlayer.getEffects().remove(AndroidEffects.SHIELD_HITS);
                 androidPlayer.getPlayer().worldObj.playSoundAtEntity(androidPlayer.getPlayer(), Reference.MOD_ID + ":" + "shield_power_down", 0.6f + random.nextFloat() * 0.2f, 1);
                 //androidPlayer.init(androidPlayer.getPlayer(),androidPlayer.getPlayer().worldObj);
             }
@@ -4,6 +4,7 @@ import com.google.common.collect.Multimap;
 import matteroverdrive.MatterOverdrive;
 import matteroverdrive.Reference;
 import matteroverdrive.api.events.bionicStats.MOEventBionicStat;
+import matteroverdrive.entity.player.AndroidEffects;
 import matteroverdrive.entity.player.AndroidPlayer;
 import matteroverdrive.network.packet.client.PacketSpawnParticle;
 import net.minecraft.entity.Entity;
@@ -14,7 +15,6 @@ import net.minecraftforge.event.entity.living.LivingEvent;
 import net.minecraftforge.event.entity.living.LivingFallEvent;
 import net.minecraftforge.event.entity.player.PlayerFlyableFallEvent;
 
-import java.util.EnumSet;
 import java.util.List;
 
 public class BioticStatShockwave extends AbstractBioticStat {
@@ -83,7 +83,6 @@ public class BioticStatShockwave extends AbstractBioticStat {
                         }
                     }
                     setLastShockwaveTime(androidPlayer, androidPlayer.getPlayer().worldObj.getTotalWorldTime() + DELAY);
-                    androidPlayer.sync(EnumSet.of(AndroidPlayer.DataType.EFFECTS));
                     entityPlayer.worldObj.playSoundAtEntity(entityPlayer, Reference.MOD_ID + ":" + "shockwave", 1, 0.9f + entityPlayer.getRNG().nextFloat() * 0.1f);
                     for (int i = 0; i < 20; ++i) {
                         double d0 = entityPlayer.getRNG().nextGaussian() * 0.02D;
@@ -146,10 +145,10 @@ public class BioticStatShockwave extends AbstractBioticStat {
     }
 
     public long getLastShockwaveTime(AndroidPlayer androidPlayer) {
-        return androidPlayer.getEffects().getLong("SHOCK_LAST_USE");
+        return androidPlayer.getEffects().getLong(AndroidEffects.SHOCKWAVE_LAST_USE);
     }
 
     public void setLastShockwaveTime(AndroidPlayer androidPlayer, long time) {
-        androidPlayer.getEffects().setLong("SHOCK_LAST_USE", time);
+        androidPlayer.getEffects().setLong(AndroidEffects.SHOCKWAVE_LAST_USE, time);
     }
 }
@@ -11,11 +11,15 @@ import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.MathHelper;
 
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Random;
+import java.util.Set;
 
 public class GenericMultiQuest extends GenericQuest {
     protected IQuestLogic[] logics;
+    private Set<Class<? extends Event>> subscribedEvents;
     boolean sequential;
     boolean autoComplete;
 
@@ -111,6 +115,23 @@ public class GenericMultiQuest extends GenericQuest {
         }
     }
 
+    @Override
+    public Collection<Class<? extends Event>> getSubscribedEvents() {
+        if (subscribedEvents == null) {
+            Set<Class<? extends Event>> events = new HashSet<>();
+            for (IQuestLogic logic : logics) {
+                List<Class<? extends Event>> logicEvents = logic.getSubscribedEvents();
+                if (logicEvents == null) {
+                    //one of the logics handles all events, so the quest does too
+                    return null;
+                }
+                events.addAll(logicEvents);
+            }
+            subscribedEvents = events;
+        }
+        return subscribedEvents;
+    }
+
     @Override
     public boolean onEvent(QuestStack questStack, Event event, EntityPlayer entityPlayer) {
         boolean hasChangedFlag = false;
@@ -9,6 +9,7 @@ import matteroverdrive.entity.player.MOExtendedProperties;
 import matteroverdrive.util.MOStringHelper;
 import net.minecraft.entity.player.EntityPlayer;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Random;
 
@@ -79,6 +80,11 @@ public class GenericQuest extends Quest {
 
     }
 
+    @Override
+    public Collection<Class<? extends Event>> getSubscribedEvents() {
+        return questLogic.getSubscribedEvents();
+    }
+
     @Override
     public boolean onEvent(QuestStack questStack, Event event, EntityPlayer entityPlayer) {
         return questLogic.onEvent(questStack, event, entityPlayer);
@@ -4,7 +4,7 @@ import cpw.mods.fml.common.eventhandler.Event;
 import matteroverdrive.MatterOverdrive;
 import matteroverdrive.api.quest.QuestStack;
 import matteroverdrive.entity.player.MOExtendedProperties;
-import matteroverdrive.network.packet.client.quest.PacketUpdateQuest;
+import matteroverdrive.network.packet.client.quest.PacketUpdateQuestBatch;
 import matteroverdrive.util.MOLog;
 import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.nbt.NBTTagCompound;
@@ -13,17 +13,34 @@ import net.minecraftforge.common.util.Constants;
 import org.apache.logging.log4j.Level;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 public class PlayerQuestData {
     List<QuestStack> activeQuests;
     List<QuestStack> completedQuests;
     MOExtendedProperties extendedProperties;
+    /**
+     * The active quests subscribed to each type of event. Built lazily and cleared when the active quests change.
+     */
+    Map<Class<? extends Event>, List<QuestStack>> eventIndex;
+    /**
+     * The active quests changed by events since the last update was sent to the client.
+     */
+    Set<QuestStack> changedQuests;
 
     public PlayerQuestData(MOExtendedProperties extendedProperties) {
         activeQuests = new ArrayList<>();
         completedQuests = new ArrayList<>();
+        eventIndex = new HashMap<>();
+        changedQuests = Collections.newSetFromMap(new IdentityHashMap<>());
         this.extendedProperties = extendedProperties;
     }
 
@@ -68,6 +85,7 @@ public class PlayerQuestData {
         }
         if (dataTypes.contains(DataType.ACTIVE_QUESTS)) {
             activeQuests.clear();
+            invalidateEventIndex();
             try {
                 if (tagCompound.hasKey("ActiveQuests", Constants.NBT.TAG_LIST)) {
                     NBTTagList activeQuestsTagList = tagCompound.getTagList("ActiveQuests", Constants.NBT.TAG_COMPOUND);
@@ -86,6 +104,7 @@ public class PlayerQuestData {
         while (i < activeQuests.size()) {
             if (activeQuests.get(i).isCompleted()) {
                 QuestStack questStack = activeQuests.remove(i);
+                invalidateEventIndex();
                 extendedProperties.onQuestCompleted(questStack, i);
             } else {
                 i++;
@@ -113,6 +132,7 @@ public class PlayerQuestData {
 
     public QuestStack addQuest(QuestStack questStack) {
         if (questStack.getQuest() != null && activeQuests.add(questStack)) {
+            invalidateEventIndex();
             return questStack;
         }
         return null;
@@ -126,18 +146,74 @@ public class PlayerQuestData {
 
     public void onEvent(Event event) {
         if (extendedProperties != null && extendedProperties.getPlayer() != null && extendedProperties.getPlayer() instanceof EntityPlayerMP) {
-            for (int i = 0; i < activeQuests.size(); i++) {
-                if (activeQuests.get(i).getQuest() != null) {
-                    if (activeQuests.get(i).getQuest().onEvent(activeQuests.get(i), event, extendedProperties.getPlayer())) {
-                        MatterOverdrive.packetPipeline.sendTo(new PacketUpdateQuest(i, this, PacketUpdateQuest.UPDATE_QUEST), (EntityPlayerMP) extendedProperties.getPlayer());
+            List<QuestStack> subscribedQuests = getSubscribedQuests(event.getClass());
+            for (int i = 0; i < subscribedQuests.size(); i++) {
+                QuestStack questStack = subscribedQuests.get(i);
+                if (questStack.getQuest().onEvent(questStack, event, extendedProperties.getPlayer())) {
+                    changedQuests.add(questStack);
+                }
+            }
+        }
+    }
+
+    private List<QuestStack> getSubscribedQuests(Class<? extends Event> eventType) {
+        List<QuestStack> subscribedQuests = eventIndex.get(eventType);
+        if (subscribedQuests == null) {
+            subscribedQuests = new ArrayList<>();
+            for (QuestStack questStack : activeQuests) {
+                if (questStack.getQuest() != null) {
+                    Collection<Class<? extends Event>> subscribedTypes = questStack.getQuest().getSubscribedEvents();
+                    if (subscribedTypes == null) {
+                        //the quest handles all events
+                        subscribedQuests.add(questStack);
+                        continue;
+                    }
+                    for (Class<? extends Event> subscribedType : subscribedTypes) {
+                        if (subscribedType.isAssignableFrom(eventType)) {
+                            subscribedQuests.add(questStack);
+                            break;
+                        }
                     }
                 }
             }
+            eventIndex.put(eventType, subscribedQuests);
         }
+        return subscribedQuests;
+    }
+
+    /**
+     * Sends all the quests changed by events since the last call to the client, in a single packet.
+     */
+    public void sendQuestUpdates() {
+        if (changedQuests.size() > 0 && extendedProperties != null && extendedProperties.getPlayer() instanceof EntityPlayerMP) {
+            int[] questIndexes = new int[changedQuests.size()];
+            QuestStack[] questStacks = new QuestStack[changedQuests.size()];
+            int count = 0;
+            for (int i = 0; i < activeQuests.size(); i++) {
+                if (changedQuests.contains(activeQuests.get(i))) {
+                    questIndexes[count] = i;
+                    questStacks[count] = activeQuests.get(i);
+                    count++;
+                }
+            }
+            changedQuests.clear();
+            if (count > 0) {
+                if (count < questIndexes.length) {
+                    questIndexes = Arrays.copyOf(questIndexes, count);
+                    questStacks = Arrays.copyOf(questStacks, count);
+                }
+                MatterOverdrive.packetPipeline.sendTo(new PacketUpdateQuestBatch(questIndexes, questStacks), (EntityPlayerMP) extendedProperties.getPlayer());
+            }
+        }
+    }
+
+    public void invalidateEventIndex() {
+        eventIndex.clear();
     }
 
     public void clearActiveQuests() {
         activeQuests.clear();
+        invalidateEventIndex();
     }
 
     public void clearCompletedQuests() {
@@ -146,10 +222,12 @@ public class PlayerQuestData {
 
     public void removeQuest(QuestStack questStack) {
         activeQuests.remove(questStack);
+        invalidateEventIndex();
     }
 
     public void removeQuest(int id) {
         activeQuests.remove(id);
+        invalidateEventIndex();
     }
 
     public List<QuestStack> getActiveQuests() {
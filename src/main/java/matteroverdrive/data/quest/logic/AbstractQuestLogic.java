@@ -1,5 +1,6 @@
 package matteroverdrive.data.quest.logic;
 
+import cpw.mods.fml.common.eventhandler.Event;
 import cpw.mods.fml.common.registry.EntityRegistry;
 import matteroverdrive.api.quest.IQuestLogic;
 import matteroverdrive.api.quest.QuestStack;
@@ -8,6 +9,9 @@ import net.minecraft.entity.EntityList;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.nbt.NBTTagCompound;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Random;
 
 public abstract class AbstractQuestLogic implements IQuestLogic {
@@ -39,6 +43,11 @@ public abstract class AbstractQuestLogic implements IQuestLogic {
         return originalXp;
     }
 
+    @SafeVarargs
+    protected static List<Class<? extends Event>> subscribe(Class<? extends Event>... eventTypes) {
+        return Collections.unmodifiableList(Arrays.asList(eventTypes));
+    }
+
     public int random(Random random, int min, int max) {
         int randomCount = max - min;
         return min + (randomCount > 0 ? random.nextInt(randomCount) : 0);
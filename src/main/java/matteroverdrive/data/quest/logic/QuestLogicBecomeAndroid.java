@@ -11,6 +11,7 @@ import net.minecraft.util.ChatComponentText;
 import net.minecraft.util.ChatStyle;
 import net.minecraft.util.EnumChatFormatting;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Random;
 
@@ -67,6 +68,11 @@ public class QuestLogicBecomeAndroid extends AbstractQuestLogic {
 
     }
 
+    @Override
+    public List<Class<? extends Event>> getSubscribedEvents() {
+        return Collections.emptyList();
+    }
+
     @Override
     public boolean onEvent(QuestStack questStack, Event event, EntityPlayer entityPlayer) {
         return false;
@@ -99,6 +99,11 @@ public class QuestLogicCocktailOfAscension extends AbstractQuestLogic {
         return true;
     }
 
+    @Override
+    public List<Class<? extends Event>> getSubscribedEvents() {
+        return subscribe(LivingDeathEvent.class, EntityItemPickupEvent.class, MOEventDialogInteract.class);
+    }
+
     @Override
     public boolean onEvent(QuestStack questStack, Event event, EntityPlayer entityPlayer) {
         if (getCreeperKillCount(questStack) < MAX_CREEPER_KILS && event instanceof LivingDeathEvent) {
@@ -122,6 +122,11 @@ public class QuestLogicCollectItem extends QuestLogicRandomItem {
         return 0;
     }
 
+    @Override
+    public List<Class<? extends Event>> getSubscribedEvents() {
+        return subscribe(EntityItemPickupEvent.class);
+    }
+
     @Override
     public boolean onEvent(QuestStack questStack, Event event, EntityPlayer entityPlayer) {
         if (destroyOnCollect && event instanceof EntityItemPickupEvent && ((EntityItemPickupEvent) event).item.getEntityItem() != null) {
@@ -100,6 +100,11 @@ public class QuestLogicCraft extends QuestLogicRandomItem {
         getTag(questStack).setInteger("MaxCraftCount", random(random, minCraftCount, maxCraftCount));
     }
 
+    @Override
+    public List<Class<? extends Event>> getSubscribedEvents() {
+        return subscribe(PlayerEvent.ItemCraftedEvent.class);
+    }
+
     @Override
     public boolean onEvent(QuestStack questStack, Event event, EntityPlayer entityPlayer) {
         if (event instanceof PlayerEvent.ItemCraftedEvent) {
@@ -61,6 +61,11 @@ public class QuestLogicKillCreature extends AbstractQuestLogic {
         getTag(questStack).setByte("KillType", (byte) random.nextInt(creatureClasses.length));
     }
 
+    @Override
+    public List<Class<? extends Event>> getSubscribedEvents() {
+        return subscribe(LivingDeathEvent.class);
+    }
+
     @Override
     public boolean onEvent(QuestStack questStack, Event event, EntityPlayer entityPlayer) {
         if (event instanceof LivingDeathEvent) {
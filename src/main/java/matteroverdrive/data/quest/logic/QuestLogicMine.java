@@ -86,6 +86,11 @@ public class QuestLogicMine extends AbstractQuestLogic {
         }
     }
 
+    @Override
+    public List<Class<? extends Event>> getSubscribedEvents() {
+        return subscribe(BlockEvent.HarvestDropsEvent.class);
+    }
+
     @Override
     public boolean onEvent(QuestStack questStack, Event event, EntityPlayer entityPlayer) {
         if (event instanceof BlockEvent.HarvestDropsEvent) {
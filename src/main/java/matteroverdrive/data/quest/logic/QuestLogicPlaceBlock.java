@@ -74,6 +74,11 @@ public class QuestLogicPlaceBlock extends QuestLogicBlock {
         setMaxBlockPlace(questStack, random(random, minBlockPlace, maxBlockPlace));
     }
 
+    @Override
+    public List<Class<? extends Event>> getSubscribedEvents() {
+        return subscribe(BlockEvent.PlaceEvent.class);
+    }
+
     @Override
     public boolean onEvent(QuestStack questStack, Event event, EntityPlayer entityPlayer) {
         if (event instanceof BlockEvent.PlaceEvent) {
@@ -48,6 +48,11 @@ public class QuestLogicScanBlock extends QuestLogicBlock {
         setMaxBlockScan(questStack, random(random, minBlockScan, maxBlockScan));
     }
 
+    @Override
+    public List<Class<? extends Event>> getSubscribedEvents() {
+        return subscribe(MOEventScan.class);
+    }
+
     @Override
     public boolean onEvent(QuestStack questStack, Event event, EntityPlayer entityPlayer) {
         if (event instanceof MOEventScan) {
@@ -35,6 +35,11 @@ public class QuestLogicSingleEvent extends AbstractQuestLogic {
 
     }
 
+    @Override
+    public List<Class<? extends Event>> getSubscribedEvents() {
+        return subscribe(event);
+    }
+
     @Override
     public boolean onEvent(QuestStack questStack, Event event, EntityPlayer entityPlayer) {
         if (!hasEventFired(questStack) && this.event.isInstance(event)) {
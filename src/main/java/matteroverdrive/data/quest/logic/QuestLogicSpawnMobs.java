@@ -12,6 +12,7 @@ import net.minecraft.util.MathHelper;
 import net.minecraft.world.World;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.Collections;
 import java.util.List;
 import java.util.Random;
 
@@ -59,6 +60,11 @@ public class QuestLogicSpawnMobs extends AbstractQuestLogic {
         getTag(questStack).setShort("SpawnAmount", (short) random(random, minSpawnAmount, maxSpawnAmount));
     }
 
+    @Override
+    public List<Class<? extends Event>> getSubscribedEvents() {
+        return Collections.emptyList();
+    }
+
     @Override
     public boolean onEvent(QuestStack questStack, Event event, EntityPlayer entityPlayer) {
         return false;
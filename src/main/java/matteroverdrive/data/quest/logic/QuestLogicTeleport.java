@@ -49,6 +49,11 @@ public class QuestLogicTeleport extends AbstractQuestLogic {
 
     }
 
+    @Override
+    public List<Class<? extends Event>> getSubscribedEvents() {
+        return subscribe(MOEventTransport.class);
+    }
+
     @Override
     public boolean onEvent(QuestStack questStack, Event event, EntityPlayer entityPlayer) {
         if (event instanceof MOEventTransport) {
@@ -1,6 +1,7 @@
 package matteroverdrive.data.recipes;
 
 import net.minecraft.item.ItemStack;
+import net.minecraftforge.oredict.OreDictionary;
 
 public class InscriberRecipe {
     private final ItemStack main, sec;
@@ -17,7 +18,7 @@ public class InscriberRecipe {
     }
 
     public boolean matches(ItemStack main, ItemStack sec) {
-        return this.main.isItemEqual(main) && main.stackSize > 0 && this.sec.isItemEqual(sec) && sec.stackSize > 0;
+        return OreDictionary.itemMatches(this.main, main, false) && main.stackSize > 0 && OreDictionary.itemMatches(this.sec, sec, false) && sec.stackSize > 0;
     }
 
     public ItemStack getCraftingResult(ItemStack main, ItemStack sec) {
@@ -0,0 +1,83 @@
+package matteroverdrive.data.world;
+
+import matteroverdrive.util.MOLog;
+import matteroverdrive.world.MOWorldGen;
+import matteroverdrive.world.MOWorldGenBuilding;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldSavedData;
+import net.minecraftforge.common.util.Constants;
+import org.apache.logging.log4j.Level;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The buildings of a dimension that are still being generated.
+ * Saved with the dimension, so buildings that were not finished when the server stopped are resumed on load.
+ */
+public class BuildingGenerationWorldData extends WorldSavedData {
+    private final List<MOWorldGenBuilding.WorldGenBuildingWorker> workers;
+    /**
+     * The loaded workers, kept as NBT until the world and the buildings are available.
+     */
+    private NBTTagList unresolvedWorkers;
+
+    public BuildingGenerationWorldData(String name) {
+        super(name);
+        workers = new ArrayList<>();
+    }
+
+    @Override
+    public void readFromNBT(NBTTagCompound nbtTagCompound) {
+        workers.clear();
+        unresolvedWorkers = nbtTagCompound.getTagList("Workers", Constants.NBT.TAG_COMPOUND);
+    }
+
+    @Override
+    public void writeToNBT(NBTTagCompound nbtTagCompound) {
+        NBTTagList tagList = new NBTTagList();
+        if (unresolvedWorkers != null) {
+            for (int i = 0; i < unresolvedWorkers.tagCount(); i++) {
+                tagList.appendTag(unresolvedWorkers.getCompoundTagAt(i).copy());
+            }
+        }
+        for (MOWorldGenBuilding.WorldGenBuildingWorker worker : workers) {
+            NBTTagCompound workerTag = new NBTTagCompound();
+            worker.writeToNBT(workerTag);
+            tagList.appendTag(workerTag);
+        }
+        nbtTagCompound.setTag("Workers", tagList);
+    }
+
+    /**
+     * @param world    the world the data belongs to.
+     * @param worldGen the world generator that holds the buildings.
+     * @return the workers in the order they were queued.
+     */
+    public List<MOWorldGenBuilding.WorldGenBuildingWorker> getWorkers(World world, MOWorldGen worldGen) {
+        if (unresolvedWorkers != null) {
+            for (int i = 0; i < unresolvedWorkers.tagCount(); i++) {
+                NBTTagCompound workerTag = unresolvedWorkers.getCompoundTagAt(i);
+                MOWorldGenBuilding building = worldGen.getBuilding(workerTag.getString("Building"));
+                if (building != null) {
+                    workers.add(new MOWorldGenBuilding.WorldGenBuildingWorker().readFromNBT(workerTag, building, world));
+                } else {
+                    MOLog.log(Level.WARN, "Could not resume the generation of unknown building %s", workerTag.getString("Building"));
+                }
+            }
+            unresolvedWorkers = null;
+        }
+        return workers;
+    }
+
+    public void addWorker(MOWorldGenBuilding.WorldGenBuildingWorker worker) {
+        workers.add(worker);
+        markDirty();
+    }
+
+    public int getWorkerCount() {
+        return workers.size() + (unresolvedWorkers != null ? unresolvedWorkers.tagCount() : 0);
+    }
+}
@@ -2,6 +2,8 @@ package matteroverdrive.data.world;
 
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
+import net.minecraft.util.LongHashMap;
+import net.minecraft.util.MathHelper;
 import net.minecraft.util.Vec3;
 import net.minecraft.world.WorldSavedData;
 import net.minecraftforge.common.util.Constants;
@@ -11,23 +13,33 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+/**
+ * The positions of the generated structures, by structure name.
+ * The positions of each structure are also kept in a grid, so proximity checks only look at the cells around a point.
+ */
 public class GenPositionWorldData extends WorldSavedData {
     Map<String, List<WorldPosition2D>> positions;
+    Map<String, PositionGrid> grids;
 
     public GenPositionWorldData(String name) {
         super(name);
         positions = new HashMap<>();
+        grids = new HashMap<>();
     }
 
     @Override
     public void readFromNBT(NBTTagCompound nbtTagCompound) {
         for (Object key : nbtTagCompound.func_150296_c()) {
             List<WorldPosition2D> pos2D = new ArrayList<>();
+            PositionGrid grid = new PositionGrid();
             NBTTagList tagList = nbtTagCompound.getTagList(key.toString(), Constants.NBT.TAG_COMPOUND);
             for (int i = 0; i < tagList.tagCount(); i++) {
-                pos2D.add(new WorldPosition2D(tagList.getCompoundTagAt(i)));
+                WorldPosition2D position2D = new WorldPosition2D(tagList.getCompoundTagAt(i));
+                pos2D.add(position2D);
+                grid.add(position2D);
             }
             positions.put(key.toString(), pos2D);
+            grids.put(key.toString(), grid);
         }
     }
 
@@ -45,31 +57,16 @@ public class GenPositionWorldData extends WorldSavedData {
     }
 
     public boolean isFarEnough(String name, int x, int y, int distance) {
-        List<WorldPosition2D> positions = this.positions.get(name);
-        if (positions != null) {
-            for (WorldPosition2D worldPosition2D : positions) {
-                if (worldPosition2D.manhattanDistance(x, y) < distance) {
-                    return false;
-                }
-            }
-        }
-        return true;
+        PositionGrid grid = grids.get(name);
+        return grid == null || grid.isFarEnough(x, y, distance);
     }
 
     public double getNearestDistance(String name, Vec3 pos) {
-        List<WorldPosition2D> positions = this.positions.get(name);
-        double lastDistance = -1;
-        double tempDist;
-
-        if (positions != null) {
-            for (WorldPosition2D worldPosition2D : positions) {
-                tempDist = Vec3.createVectorHelper(worldPosition2D.x, pos.yCoord, worldPosition2D.z).distanceTo(pos);
-                if (lastDistance < 0 || tempDist < lastDistance) {
-                    lastDistance = tempDist;
-                }
-            }
+        PositionGrid grid = grids.get(name);
+        if (grid != null) {
+            return grid.getNearestDistance(pos.xCoord, pos.zCoord);
         }
-        return lastDistance;
+        return -1;
     }
 
     public void addPosition(String name, WorldPosition2D position2D) {
@@ -77,12 +74,134 @@ public class GenPositionWorldData extends WorldSavedData {
         if (pos == null) {
             pos = new ArrayList<>();
             positions.put(name, pos);
+            grids.put(name, new PositionGrid());
         }
         pos.add(position2D);
+        grids.get(name).add(position2D);
         markDirty();
     }
 
     public List<WorldPosition2D> getPositions(String name) {
         return positions.get(name);
     }
+
+    /**
+     * Buckets positions into square cells.
+     * Nearest distance queries search the cells in rings around the point, and stop once a ring can't hold a closer position.
+     * The cells are kept in a long keyed map, so looking up a cell does not box its key.
+     */
+    static class PositionGrid {
+        private static final int CELL_SHIFT = 9;
+        private static final int CELL_SIZE = 1 << CELL_SHIFT;
+        private final LongHashMap cells = new LongHashMap();
+        private int minCellX, minCellZ, maxCellX, maxCellZ;
+
+        void add(WorldPosition2D position) {
+            int cellX = position.x >> CELL_SHIFT;
+            int cellZ = position.z >> CELL_SHIFT;
+            if (cells.getNumHashElements() == 0) {
+                minCellX = maxCellX = cellX;
+                minCellZ = maxCellZ = cellZ;
+            } else {
+                minCellX = Math.min(minCellX, cellX);
+                minCellZ = Math.min(minCellZ, cellZ);
+                maxCellX = Math.max(maxCellX, cellX);
+                maxCellZ = Math.max(maxCellZ, cellZ);
+            }
+
+            long key = getKey(cellX, cellZ);
+            List<WorldPosition2D> cell = getCell(key);
+            if (cell == null) {
+                cell = new ArrayList<>(1);
+                cells.add(key, cell);
+            }
+            cell.add(position);
+        }
+
+        /**
+         * @return is the Manhattan distance to all positions at least the given distance.
+         */
+        boolean isFarEnough(int x, int z, int distance) {
+            if (cells.getNumHashElements() == 0) {
+                return true;
+            }
+
+            int fromCellX = Math.max(minCellX, (x - distance) >> CELL_SHIFT);
+            int fromCellZ = Math.max(minCellZ, (z - distance) >> CELL_SHIFT);
+            int toCellX = Math.min(maxCellX, (x + distance) >> CELL_SHIFT);
+            int toCellZ = Math.min(maxCellZ, (z + distance) >> CELL_SHIFT);
+            for (int cellX = fromCellX; cellX <= toCellX; cellX++) {
+                for (int cellZ = fromCellZ; cellZ <= toCellZ; cellZ++) {
+                    List<WorldPosition2D> cell = getCell(getKey(cellX, cellZ));
+                    if (cell != null) {
+                        for (int i = 0; i < cell.size(); i++) {
+                            if (cell.get(i).manhattanDistance(x, z) < distance) {
+                                return false;
+                            }
+                        }
+                    }
+                }
+            }
+            return true;
+        }
+
+        /**
+         * @return the distance to the nearest position on the X and Z axes, or -1 if there are no positions.
+         */
+        double getNearestDistance(double x, double z) {
+            if (cells.getNumHashElements() == 0) {
+                return -1;
+            }
+
+            int cellX = MathHelper.floor_double(x) >> CELL_SHIFT;
+            int cellZ = MathHelper.floor_double(z) >> CELL_SHIFT;
+            int maxRing = Math.max(Math.max(Math.abs(cellX - minCellX), Math.abs(cellX - maxCellX)), Math.max(Math.abs(cellZ - minCellZ), Math.abs(cellZ - maxCellZ)));
+            double nearestSq = -1;
+
+            for (int ring = 0; ring <= maxRing; ring++) {
+                //every position in the ring is at least (ring - 1) cells away from any point in the center cell
+                double ringDistance = (double) (ring - 1) * CELL_SIZE;
+                if (nearestSq >= 0 && ringDistance > 0 && ringDistance * ringDistance > nearestSq) {
+                    break;
+                }
+
+                for (int dx = -ring; dx <= ring; dx++) {
+                    nearestSq = getNearestSq(cellX + dx, cellZ - ring, x, z, nearestSq);
+                    if (ring > 0) {
+                        nearestSq = getNearestSq(cellX + dx, cellZ + ring, x, z, nearestSq);
+                    }
+                }
+                for (int dz = -ring + 1; dz <= ring - 1; dz++) {
+                    nearestSq = getNearestSq(cellX - ring, cellZ + dz, x, z, nearestSq);
+                    nearestSq = getNearestSq(cellX + ring, cellZ + dz, x, z, nearestSq);
+                }
+            }
+
+            return nearestSq < 0 ? -1 : (double) MathHelper.sqrt_double(nearestSq);
+        }
+
+        private double getNearestSq(int cellX, int cellZ, double x, double z, double nearestSq) {
+            List<WorldPosition2D> cell = getCell(getKey(cellX, cellZ));
+            if (cell != null) {
+                for (int i = 0; i < cell.size(); i++) {
+                    double dx = cell.get(i).x - x;
+                    double dz = cell.get(i).z - z;
+                    double distanceSq = dx * dx + dz * dz;
+                    if (nearestSq < 0 || distanceSq < nearestSq) {
+                        nearestSq = distanceSq;
+                    }
+                }
+            }
+            return nearestSq;
+        }
+
+        @SuppressWarnings("unchecked")
+        private List<WorldPosition2D> getCell(long key) {
+            return (List<WorldPosition2D>) cells.getValueByKey(key);
+        }
+
+        private static long getKey(int cellX, int cellZ) {
+            return (long) cellX << 32 | cellZ & 0xFFFFFFFFL;
+        }
+    }
 }
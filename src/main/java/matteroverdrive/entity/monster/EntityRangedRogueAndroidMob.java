@@ -155,7 +155,7 @@ public class EntityRangedRogueAndroidMob extends EntityRogueAndroidMob implement
                 energyWeapon.setHeat(weapon, 0);
                 if (EntityRogueAndroid.UNLIMITED_WEAPON_ENERGY)
                     energyWeapon.rechargeFully(weapon);
-                MatterOverdrive.packetPipeline.sendToAllAround(new PacketFirePlasmaShot(this.getEntityId(), pos, dir, shot), worldObj.provider.dimensionId, posX, posY, posZ, 64);
+                MatterOverdrive.proxy.getWeaponHandler().queueShotReplication(this, new PacketFirePlasmaShot(this.getEntityId(), pos, dir, shot), 64);
 
                 difficulty = 1 + (3 - worldObj.difficultySetting.getDifficultyId()) * 0.5f;
                 this.aiBoltAttack.setMaxRangedAttackDelay((int) (((EnergyWeapon) weapon.getItem()).getShootCooldown(weapon) * difficulty));
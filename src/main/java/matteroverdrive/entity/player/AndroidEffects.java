@@ -0,0 +1,320 @@
+package matteroverdrive.entity.player;
+
+import matteroverdrive.data.biostats.BioticStatShield;
+import matteroverdrive.data.biostats.BioticStatTeleport;
+import net.minecraft.nbt.NBTBase;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Typed storage for the effects of an Android Player.
+ * Each effect has a fixed slot registered at class load, so reading and writing an effect is an array access.
+ * Effects are converted to NBT only when saved or synced. The store tracks which effects changed since the last sync,
+ * so only those need to be sent to clients.
+ */
+public class AndroidEffects {
+    private static final List<Effect> registeredEffects = new ArrayList<>();
+    private static final Map<String, Effect> effectsByKey = new HashMap<>();
+    private static long visibleToOthersMask;
+
+    //region Effects
+    public static final Effect TURNING = register(AndroidPlayer.EFFECT_KEY_TURNING, Type.INT, false);
+    public static final Effect GLITCH_TIME = register("GlitchTime", Type.INT, false);
+    public static final Effect LAST_TELEPORT = register(BioticStatTeleport.EFFECT_KEY_LAST_TELEPORT, Type.LONG, false);
+    public static final Effect CLOAKED = register("Cloaked", Type.BOOLEAN, true);
+    public static final Effect NIGHTVISION = register("Nightvision", Type.BOOLEAN, true);
+    public static final Effect SHIELD = register(BioticStatShield.TAG_SHIELD, Type.BOOLEAN, true);
+    public static final Effect SHIELD_HITS = register(BioticStatShield.TAG_HITS, Type.TAG, true);
+    public static final Effect SHIELD_LAST_USE = register("TAG_SHIELD_LAST_USE", Type.LONG, false);
+    public static final Effect SHOCKWAVE_LAST_USE = register("SHOCK_LAST_USE", Type.LONG, false);
+    //endregion
+
+    private final long[] values;
+    private final NBTBase[] tags;
+    private long present;
+    private long changed;
+    /**
+     * Effects with no registered slot, kept so that they are saved back unchanged.
+     */
+    private NBTTagCompound unknown;
+
+    public AndroidEffects() {
+        values = new long[registeredEffects.size()];
+        tags = new NBTBase[registeredEffects.size()];
+        unknown = new NBTTagCompound();
+    }
+
+    private static Effect register(String key, Type type, boolean visibleToOthers) {
+        if (registeredEffects.size() >= Long.SIZE) {
+            throw new IllegalStateException(String.format("Can't register Android effect %s, all %s slots are taken", key, Long.SIZE));
+        }
+        Effect effect = new Effect(registeredEffects.size(), key, type, visibleToOthers);
+        registeredEffects.add(effect);
+        effectsByKey.put(key, effect);
+        if (visibleToOthers) {
+            visibleToOthersMask |= effect.mask;
+        }
+        return effect;
+    }
+
+    public static Effect getEffect(String key) {
+        return effectsByKey.get(key);
+    }
+
+    //region Getters and Setters
+    public boolean has(Effect effect) {
+        return (present & effect.mask) != 0;
+    }
+
+    public int getInteger(Effect effect) {
+        return (int) values[effect.index];
+    }
+
+    public long getLong(Effect effect) {
+        return values[effect.index];
+    }
+
+    public boolean getBoolean(Effect effect) {
+        return values[effect.index] != 0;
+    }
+
+    /**
+     * @param effect the effect.
+     * @return the list stored in the effect, or a new empty list if there is none.
+     */
+    public NBTTagList getTagList(Effect effect) {
+        if (tags[effect.index] instanceof NBTTagList) {
+            return (NBTTagList) tags[effect.index];
+        }
+        return new NBTTagList();
+    }
+
+    public void setInteger(Effect effect, int value) {
+        setValue(effect, value);
+    }
+
+    public void setLong(Effect effect, long value) {
+        setValue(effect, value);
+    }
+
+    public void setBoolean(Effect effect, boolean value) {
+        setValue(effect, value ? 1 : 0);
+    }
+
+    public void setTag(Effect effect, NBTBase tag) {
+        tags[effect.index] = tag;
+        present |= effect.mask;
+        changed |= effect.mask;
+    }
+
+    private void setValue(Effect effect, long value) {
+        if (!has(effect) || values[effect.index] != value) {
+            values[effect.index] = value;
+            present |= effect.mask;
+            changed |= effect.mask;
+        }
+    }
+
+    public void remove(Effect effect) {
+        if (has(effect)) {
+            values[effect.index] = 0;
+            tags[effect.index] = null;
+            present &= ~effect.mask;
+            changed |= effect.mask;
+        }
+    }
+
+    /**
+     * Counts down a timer effect by one and removes it once it has run out.
+     * The change is not marked for syncing, as clients count down the same timers on their own.
+     *
+     * @param effect the timer effect.
+     * @return the remaining time.
+     */
+    public int countDown(Effect effect) {
+        if (has(effect)) {
+            if (values[effect.index] > 0) {
+                return (int) --values[effect.index];
+            } else {
+                values[effect.index] = 0;
+                present &= ~effect.mask;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Marks the effect as changed, so it is sent with the next sync.
+     * Used when the value of the effect was modified in place, like the elements of a list.
+     *
+     * @param effect the effect.
+     */
+    public void markChanged(Effect effect) {
+        changed |= effect.mask;
+    }
+
+    public boolean hasChanges() {
+        return changed != 0;
+    }
+
+    /**
+     * @return are any of the changed effects visible to other players.
+     */
+    public boolean hasChangesVisibleToOthers() {
+        return (changed & visibleToOthersMask) != 0;
+    }
+
+    public void clearChanges() {
+        changed = 0;
+    }
+    //endregion
+
+    //region NBT
+    public void writeToNBT(NBTTagCompound tagCompound) {
+        for (Object key : unknown.func_150296_c()) {
+            tagCompound.setTag(key.toString(), unknown.getTag(key.toString()).copy());
+        }
+        for (Effect effect : registeredEffects) {
+            if (has(effect)) {
+                writeEffectToNBT(tagCompound, effect);
+            }
+        }
+    }
+
+    public void readFromNBT(NBTTagCompound tagCompound) {
+        present = 0;
+        unknown = new NBTTagCompound();
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 0;
+            tags[i] = null;
+        }
+
+        for (Object k : tagCompound.func_150296_c()) {
+            String key = k.toString();
+            Effect effect = effectsByKey.get(key);
+            if (effect != null) {
+                readEffectFromNBT(tagCompound, effect);
+            } else {
+                unknown.setTag(key, tagCompound.getTag(key).copy());
+            }
+        }
+    }
+
+    /**
+     * Writes only the effects that changed since the last call to {@link #clearChanges()}.
+     *
+     * @param tagCompound the NBT to write to.
+     */
+    public void writeChangesToNBT(NBTTagCompound tagCompound) {
+        NBTTagCompound changedTag = new NBTTagCompound();
+        List<Integer> removed = new ArrayList<>();
+        for (Effect effect : registeredEffects) {
+            if ((changed & effect.mask) != 0) {
+                if (has(effect)) {
+                    writeEffectToNBT(changedTag, effect);
+                } else {
+                    removed.add(effect.index);
+                }
+            }
+        }
+
+        int[] removedIndexes = new int[removed.size()];
+        for (int i = 0; i < removedIndexes.length; i++) {
+            removedIndexes[i] = removed.get(i);
+        }
+        tagCompound.setTag("Changed", changedTag);
+        tagCompound.setIntArray("Removed", removedIndexes);
+    }
+
+    public void readChangesFromNBT(NBTTagCompound tagCompound) {
+        for (int index : tagCompound.getIntArray("Removed")) {
+            if (index >= 0 && index < registeredEffects.size()) {
+                remove(registeredEffects.get(index));
+            }
+        }
+
+        NBTTagCompound changedTag = tagCompound.getCompoundTag("Changed");
+        for (Object key : changedTag.func_150296_c()) {
+            Effect effect = effectsByKey.get(key.toString());
+            if (effect != null) {
+                readEffectFromNBT(changedTag, effect);
+            }
+        }
+    }
+
+    private void writeEffectToNBT(NBTTagCompound tagCompound, Effect effect) {
+        switch (effect.type) {
+            case BOOLEAN:
+                tagCompound.setBoolean(effect.key, getBoolean(effect));
+                break;
+            case INT:
+                tagCompound.setInteger(effect.key, getInteger(effect));
+                break;
+            case LONG:
+                tagCompound.setLong(effect.key, getLong(effect));
+                break;
+            case TAG:
+                tagCompound.setTag(effect.key, tags[effect.index].copy());
+                break;
+        }
+    }
+
+    private void readEffectFromNBT(NBTTagCompound tagCompound, Effect effect) {
+        switch (effect.type) {
+            case BOOLEAN:
+                values[effect.index] = tagCompound.getBoolean(effect.key) ? 1 : 0;
+                break;
+            case INT:
+                values[effect.index] = tagCompound.getInteger(effect.key);
+                break;
+            case LONG:
+                values[effect.index] = tagCompound.getLong(effect.key);
+                break;
+            case TAG:
+                tags[effect.index] = tagCompound.getTag(effect.key).copy();
+                break;
+        }
+        present |= effect.mask;
+    }
+    //endregion
+
+    public enum Type {
+        BOOLEAN, INT, LONG, TAG
+    }
+
+    public static final class Effect {
+        private final int index;
+        private final long mask;
+        private final String key;
+        private final Type type;
+        private final boolean visibleToOthers;
+
+        private Effect(int index, String key, Type type, boolean visibleToOthers) {
+            this.index = index;
+            this.mask = 1L << index;
+            this.key = key;
+            this.type = type;
+            this.visibleToOthers = visibleToOthers;
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        public Type getType() {
+            return type;
+        }
+
+        /**
+         * @return should changes of the effect be synced to the players around, not only the owner.
+         */
+        public boolean isVisibleToOthers() {
+            return visibleToOthers;
+        }
+    }
+}
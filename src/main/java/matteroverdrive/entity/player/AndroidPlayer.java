@@ -19,6 +19,7 @@ import matteroverdrive.data.inventory.EnergySlot;
 import matteroverdrive.gui.GuiAndroidHud;
 import matteroverdrive.handler.ConfigurationHandler;
 import matteroverdrive.handler.KeyHandler;
+import matteroverdrive.handler.TickProfiler;
 import matteroverdrive.init.MatterOverdriveItems;
 import matteroverdrive.network.packet.client.PacketAndroidTransformation;
 import matteroverdrive.network.packet.client.PacketSendMinimapInfo;
@@ -81,7 +82,7 @@ public class AndroidPlayer implements IEnergyStorage, IAndroid {
     private Inventory inventory;
     private IBionicStat activeStat;
     NBTTagCompound unlocked;
-    NBTTagCompound effects;
+    AndroidEffects effects;
     int maxEnergy;
     boolean isAndroid;
 
@@ -96,7 +97,7 @@ public class AndroidPlayer implements IEnergyStorage, IAndroid {
         inventory.AddSlot(new BionicSlot(false, Reference.BIONIC_OTHER));
         ENERGY_SLOT = inventory.AddSlot(new EnergySlot(false));
         unlocked = new NBTTagCompound();
-        effects = new NBTTagCompound();
+        effects = new AndroidEffects();
 
         int energyWatchID = MatterOverdrive.configHandler.getInt(ConfigurationHandler.KEY_ANDROID_ENERGY_WATCH_ID, ConfigurationHandler.CATEGORY_ABILITIES, ENERGY_WATCHER_DEFAULT);
         try {
@@ -165,7 +166,13 @@ public class AndroidPlayer implements IEnergyStorage, IAndroid {
             prop.setTag("Stats", unlocked);
         }
         if (dataTypes.contains(DataType.EFFECTS)) {
-            prop.setTag("Effects", effects);
+            NBTTagCompound effectsTag = new NBTTagCompound();
+            effects.writeToNBT(effectsTag);
+            prop.setTag("Effects", effectsTag);
+        } else if (dataTypes.contains(DataType.EFFECT_CHANGES)) {
+            NBTTagCompound effectChangesTag = new NBTTagCompound();
+            effects.writeChangesToNBT(effectChangesTag);
+            prop.setTag("EffectChanges", effectChangesTag);
         }
         if (dataTypes.contains(DataType.ACTIVE_ABILITY)) {
             if (activeStat != null)
@@ -199,7 +206,9 @@ public class AndroidPlayer implements IEnergyStorage, IAndroid {
                 unlocked = prop.getCompoundTag("Stats");
             }
             if (dataTypes.contains(DataType.EFFECTS)) {
-                effects = prop.getCompoundTag("Effects");
+                effects.readFromNBT(prop.getCompoundTag("Effects"));
+            } else if (dataTypes.contains(DataType.EFFECT_CHANGES)) {
+                effects.readChangesFromNBT(prop.getCompoundTag("EffectChanges"));
             }
             if (dataTypes.contains(DataType.ACTIVE_ABILITY)) {
                 if (prop.hasKey("ActiveAbility")) {
@@ -423,15 +432,23 @@ public class AndroidPlayer implements IEnergyStorage, IAndroid {
         }
     }
 
-    public NBTTagCompound getEffects() {
+    public AndroidEffects getEffects() {
         return effects;
     }
 
-    public void setEffects(NBTTagCompound effects) {
-        this.effects = effects;
+    /**
+     * Sends the effects that changed since the last sync.
+     * Changes that other players can see are sent to all the players around.
+     */
+    private void manageEffectSync() {
+        if (effects.hasChanges()) {
+            sync(EnumSet.of(DataType.EFFECT_CHANGES), effects.hasChangesVisibleToOthers());
+            effects.clearChanges();
+        }
     }
 
     public void onAndroidTick(Side side) {
+        long profilerStart = side.isServer() ? TickProfiler.start() : 0;
         if (side.isServer()) {
             if (isAndroid()) {
                 if (getEnergyStored() > 0) {
@@ -456,6 +473,9 @@ public class AndroidPlayer implements IEnergyStorage, IAndroid {
             }
 
             manageTurning();
+        } else {
+            //the server only syncs the transformation time every now and then
+            effects.countDown(AndroidEffects.TURNING);
         }
         if (side.isClient() && isAndroid()) {
             manageAbilityWheel();
@@ -478,6 +498,11 @@ public class AndroidPlayer implements IEnergyStorage, IAndroid {
                 }
             }
         }
+
+        if (side.isServer()) {
+            manageEffectSync();
+            TickProfiler.end(TickProfiler.Section.ANDROID_PLAYERS, profilerStart);
+        }
     }
 
     private void clearAllEquipmentAttributeModifiers() {
@@ -591,7 +616,7 @@ public class AndroidPlayer implements IEnergyStorage, IAndroid {
 
         if (player.worldObj.isRemote) {
             if (player.worldObj.getWorldTime() % 60 == 0) {
-                getEffects().setInteger("GlitchTime", 5);
+                getEffects().setInteger(AndroidEffects.GLITCH_TIME, 5);
                 playGlitchSoundClient(player.worldObj.rand, 0.2f);
             }
         }
@@ -700,13 +725,7 @@ public class AndroidPlayer implements IEnergyStorage, IAndroid {
     }
 
     private void manageGlitch() {
-        if (effects.hasKey("GlitchTime")) {
-            if (effects.getInteger("GlitchTime") > 0) {
-                effects.setInteger("GlitchTime", effects.getInteger("GlitchTime") - 1);
-            } else {
-                effects.removeTag("GlitchTime");
-            }
-        }
+        effects.countDown(AndroidEffects.GLITCH_TIME);
     }
 
     public int modify(int amount, IAttribute attribute) {
@@ -738,25 +757,27 @@ public class AndroidPlayer implements IEnergyStorage, IAndroid {
     }
 
     private void manageTurning() {
-        if (effects.hasKey(EFFECT_KEY_TURNING)) {
+        if (effects.has(AndroidEffects.TURNING)) {
             DamageSource fake = new DamageSource("android_transformation");
             fake.setDamageIsAbsolute();
             fake.setDamageBypassesArmor();
 
-            if (effects.getInteger(EFFECT_KEY_TURNING) > 0) {
-                effects.setInteger(EFFECT_KEY_TURNING, effects.getInteger(EFFECT_KEY_TURNING) - 1);
+            if (effects.getInteger(AndroidEffects.TURNING) > 0) {
+                int turning = effects.countDown(AndroidEffects.TURNING);
                 getPlayer().addPotionEffect(new PotionEffect(9, AndroidPlayer.TRANSFORM_TIME));
                 getPlayer().addPotionEffect(new PotionEffect(2, AndroidPlayer.TRANSFORM_TIME, 1));
                 getPlayer().addPotionEffect(new PotionEffect(17, AndroidPlayer.TRANSFORM_TIME));
                 getPlayer().addPotionEffect(new PotionEffect(18, AndroidPlayer.TRANSFORM_TIME));
 
 
-                if (effects.getInteger(EFFECT_KEY_TURNING) % 40 == 0) {
+                if (turning % 40 == 0) {
                     player.attackEntityFrom(fake, 0.1f);
                     playGlitchSound(this, player.worldObj.rand, 0.2f);
+                    //the client counts down on its own, so only correct it every now and then
+                    effects.markChanged(AndroidEffects.TURNING);
                 }
             } else {
-                effects.removeTag(EFFECT_KEY_TURNING);
+                effects.remove(AndroidEffects.TURNING);
                 setAndroid(true);
                 playGlitchSound(this, player.worldObj.rand, 0.8f);
                 if (!player.capabilities.isCreativeMode && !player.worldObj.getWorldInfo().isHardcoreModeEnabled() && TRANSFORMATION_DEATH) {
@@ -764,8 +785,6 @@ public class AndroidPlayer implements IEnergyStorage, IAndroid {
                     player.setDead();
                 }
             }
-
-            sync(EnumSet.of(DataType.EFFECTS));
         }
     }
 
@@ -780,7 +799,7 @@ public class AndroidPlayer implements IEnergyStorage, IAndroid {
 
     @Override
     public boolean isTurning() {
-        return effects.hasKey(EFFECT_KEY_TURNING) && effects.getInteger(EFFECT_KEY_TURNING) > 0;
+        return effects.has(AndroidEffects.TURNING) && effects.getInteger(AndroidEffects.TURNING) > 0;
     }
 
     //region Events
@@ -816,8 +835,7 @@ public class AndroidPlayer implements IEnergyStorage, IAndroid {
     public void onEntityHurt(LivingHurtEvent event) {
         if (!event.isCanceled()) {
             if (HURT_GLITCHING && event.ammount > 0) {
-                effects.setInteger("GlitchTime", modify(10, AndroidAttributes.attributeGlitchTime));
-                sync(EnumSet.of(DataType.EFFECTS));
+                effects.setInteger(AndroidEffects.GLITCH_TIME, modify(10, AndroidAttributes.attributeGlitchTime));
                 player.worldObj.playSoundAtEntity(player, Reference.MOD_ID + ":" + "gui.glitch", 0.2f, 0.9f + player.worldObj.rand.nextFloat() * 0.2f);
             }
 
@@ -848,11 +866,10 @@ public class AndroidPlayer implements IEnergyStorage, IAndroid {
     }
 
     private void startTurningToAndroid() {
-        effects.setInteger("Turning", TRANSFORM_TIME);
-        sync(EnumSet.of(DataType.EFFECTS));
+        effects.setInteger(AndroidEffects.TURNING, TRANSFORM_TIME);
     }
 
-    public long getEffectLong(String effect) {
+    public long getEffectLong(AndroidEffects.Effect effect) {
         return getEffects().getLong(effect);
     }
 
@@ -948,6 +965,6 @@ public class AndroidPlayer implements IEnergyStorage, IAndroid {
     //endregion
 
     public enum DataType {
-        DATA, ENERGY, EFFECTS, STATS, ACTIVE_ABILITY, INVENTORY, BATTERY
+        DATA, ENERGY, EFFECTS, STATS, ACTIVE_ABILITY, INVENTORY, BATTERY, EFFECT_CHANGES
     }
 }
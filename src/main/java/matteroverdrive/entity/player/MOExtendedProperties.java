@@ -92,6 +92,7 @@ public class MOExtendedProperties implements IExtendedEntityProperties {
 
     public void update(Side side) {
         if (side.equals(Side.SERVER)) {
+            questData.sendQuestUpdates();
             questData.manageQuestCompletion();
         }
     }
@@ -146,6 +147,7 @@ public class MOExtendedProperties implements IExtendedEntityProperties {
         if (index < getQuestData().getActiveQuests().size()) {
             ClientProxy.questHud.addObjectivesChanged(getQuestData().getActiveQuests().get(index), questStack);
             getQuestData().getActiveQuests().set(index, questStack);
+            getQuestData().invalidateEventIndex();
         }
     }
 
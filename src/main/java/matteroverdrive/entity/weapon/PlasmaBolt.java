@@ -4,6 +4,7 @@ import cpw.mods.fml.common.registry.IEntityAdditionalSpawnData;
 import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
 import io.netty.buffer.ByteBuf;
+import matteroverdrive.MatterOverdrive;
 import matteroverdrive.Reference;
 import matteroverdrive.api.events.weapon.MOEventPlasmaBlotHit;
 import matteroverdrive.api.gravity.IGravitationalAnomaly;
@@ -12,6 +13,7 @@ import matteroverdrive.api.weapon.WeaponShot;
 import matteroverdrive.client.data.Color;
 import matteroverdrive.client.sound.MOPositionedSound;
 import matteroverdrive.fx.PhaserBoltRecoil;
+import matteroverdrive.handler.weapon.PlasmaBoltManager;
 import matteroverdrive.items.weapon.EnergyWeapon;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockTNT;
@@ -37,6 +39,7 @@ import net.minecraftforge.common.util.ForgeDirection;
 import java.util.List;
 
 public class PlasmaBolt extends Entity implements IProjectile, IGravityEntity, IEntityAdditionalSpawnData {
+    private static final PlasmaBoltManager.Simulation clientSimulation = new PlasmaBoltManager.Simulation();
     private int blockX = -1;
     private int blockY = -1;
     private int blockZ = -1;
@@ -108,7 +111,9 @@ public class PlasmaBolt extends Entity implements IProjectile, IGravityEntity, I
             motionX *= delay;
             motionY *= delay;
             motionZ *= delay;
-            onUpdate();
+            super.onUpdate();
+            //the delay is simulated while handling the shot, outside of the world tick, so it can't use the shared index
+            simulate(new PlasmaBoltManager.Simulation());
             motionX = lastMotionX;
             motionY = lastMotionY;
             motionZ = lastMotionZ;
@@ -119,6 +124,20 @@ public class PlasmaBolt extends Entity implements IProjectile, IGravityEntity, I
     public void onUpdate() {
         super.onUpdate();
 
+        if (worldObj.isRemote) {
+            simulate(clientSimulation);
+        } else {
+            MatterOverdrive.tickHandler.getPlasmaBoltManager().queue(this);
+        }
+    }
+
+    /**
+     * Moves the bolt by its motion and handles the block or entity it hits.
+     * Server side bolts are stepped together by the {@link PlasmaBoltManager}, at the end of the world tick.
+     *
+     * @param simulation the scratch objects and the entity index to use.
+     */
+    public void simulate(PlasmaBoltManager.Simulation simulation) {
         if (this.prevRotationPitch == 0.0F && this.prevRotationYaw == 0.0F) {
             float f = MathHelper.sqrt_double(this.motionX * this.motionX + this.motionZ * this.motionZ);
             this.prevRotationYaw = this.rotationYaw = (float) (Math.atan2(this.motionX, this.motionZ) * 180.0D / Math.PI);
@@ -131,7 +150,7 @@ public class PlasmaBolt extends Entity implements IProjectile, IGravityEntity, I
             block.setBlockBoundsBasedOnState(this.worldObj, this.blockX, this.blockY, this.blockZ);
             AxisAlignedBB axisalignedbb = block.getCollisionBoundingBoxFromPool(this.worldObj, this.blockX, this.blockY, this.blockZ);
 
-            if (axisalignedbb != null && axisalignedbb.isVecInside(Vec3.createVectorHelper(this.posX, this.posY, this.posZ))) {
+            if (axisalignedbb != null && axisalignedbb.isVecInside(simulation.set(simulation.position, this.posX, this.posY, this.posZ))) {
                 setDead();
             }
         }
@@ -141,21 +160,22 @@ public class PlasmaBolt extends Entity implements IProjectile, IGravityEntity, I
             return;
         }
 
-        distanceTraveled += Vec3.createVectorHelper(motionX, motionY, motionZ).lengthVector();
-        float motionLeway = 0.0f;
-        Vec3 vec31 = Vec3.createVectorHelper(this.posX - this.motionX * motionLeway, this.posY - this.motionY * motionLeway, this.posZ - this.motionZ * motionLeway);
-        Vec3 vec3 = Vec3.createVectorHelper(this.posX + this.motionX, this.posY + this.motionY, this.posZ + this.motionZ);
+        distanceTraveled += (double) MathHelper.sqrt_double(motionX * motionX + motionY * motionY + motionZ * motionZ);
+        Vec3 vec31 = simulation.set(simulation.start, this.posX, this.posY, this.posZ);
+        Vec3 vec3 = simulation.set(simulation.end, this.posX + this.motionX, this.posY + this.motionY, this.posZ + this.motionZ);
         MovingObjectPosition movingobjectposition = this.worldObj.func_147447_a(vec31, vec3, false, true, false);
-        vec31 = Vec3.createVectorHelper(this.posX - this.motionX * motionLeway, this.posY - this.motionY * motionLeway, this.posZ - this.motionZ * motionLeway);
-        vec3 = Vec3.createVectorHelper(this.posX + this.motionX, this.posY + this.motionY, this.posZ + this.motionZ);
+        //the block ray trace moves the start vector along the ray, so it has to be reset
+        simulation.set(vec31, this.posX, this.posY, this.posZ);
 
         if (movingobjectposition != null) {
-            vec3 = Vec3.createVectorHelper(movingobjectposition.hitVec.xCoord, movingobjectposition.hitVec.yCoord, movingobjectposition.hitVec.zCoord);
+            simulation.set(vec3, movingobjectposition.hitVec.xCoord, movingobjectposition.hitVec.yCoord, movingobjectposition.hitVec.zCoord);
+        } else {
+            simulation.set(vec3, this.posX + this.motionX, this.posY + this.motionY, this.posZ + this.motionZ);
         }
 
         Entity entity = null;
         Vec3 hit = null;
-        List list = this.worldObj.getEntitiesWithinAABBExcludingEntity(this, this.boundingBox.addCoord(this.motionX, this.motionY, this.motionZ).expand(1.0D, 1.0D, 1.0D));
+        List list = simulation.getEntities(this.worldObj, this, simulation.getSearchBox(this.boundingBox, this.motionX, this.motionY, this.motionZ, 1.0D));
         double d0 = 0.0D;
         int i;
         float f1;
@@ -174,7 +194,7 @@ public class PlasmaBolt extends Entity implements IProjectile, IGravityEntity, I
                 }
 
                 f1 = 0.4F;
-                AxisAlignedBB axisalignedbb1 = entity1.boundingBox.expand((double) f1, (double) f1, (double) f1);
+                AxisAlignedBB axisalignedbb1 = simulation.getHitBox(entity1.boundingBox, (double) f1);
                 MovingObjectPosition movingobjectposition1 = axisalignedbb1.calculateIntercept(vec31, vec3);
 
                 if (movingobjectposition1 != null) {
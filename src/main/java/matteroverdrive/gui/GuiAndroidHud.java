@@ -13,6 +13,7 @@ import matteroverdrive.api.android.IBionicStat;
 import matteroverdrive.api.weapon.IWeapon;
 import matteroverdrive.client.data.Color;
 import matteroverdrive.client.render.HoloIcon;
+import matteroverdrive.entity.player.AndroidEffects;
 import matteroverdrive.entity.player.AndroidPlayer;
 import matteroverdrive.gui.android.*;
 import matteroverdrive.gui.config.EnumConfigProperty;
@@ -329,7 +330,7 @@ public class GuiAndroidHud extends Gui implements IConfigSubscriber {
         int centerX = event.resolution.getScaledWidth() / 2;
         int centerY = event.resolution.getScaledHeight() / 2;
         int maxTime = AndroidPlayer.TRANSFORM_TIME;
-        int time = maxTime - player.getEffects().getInteger(AndroidPlayer.EFFECT_KEY_TURNING);
+        int time = maxTime - player.getEffects().getInteger(AndroidEffects.TURNING);
         textTyping.setTime(time);
 
         if (time % 40 > 0 && time % 40 < 3) {
@@ -352,7 +353,7 @@ public class GuiAndroidHud extends Gui implements IConfigSubscriber {
     }
 
     public void renderHurt(AndroidPlayer player, RenderGameOverlayEvent event) {
-        if (player.getEffects().getInteger("GlitchTime") > 0) {
+        if (player.getEffects().getInteger(AndroidEffects.GLITCH_TIME) > 0) {
             renderGlitch(player, event);
         }
     }
@@ -2,9 +2,17 @@ package matteroverdrive.handler;
 
 import cpw.mods.fml.common.eventhandler.SubscribeEvent;
 import matteroverdrive.entity.player.MOExtendedProperties;
+import matteroverdrive.world.BlockChangeWatcher;
+import net.minecraft.world.World;
 import net.minecraftforge.event.world.BlockEvent;
+import net.minecraftforge.event.world.WorldEvent;
+
+import java.util.Map;
+import java.util.WeakHashMap;
 
 public class BlockHandler {
+    private final Map<World, BlockChangeWatcher> blockChangeWatchers = new WeakHashMap<>();
+
     @SubscribeEvent
     public void onHarvestDropsEvent(BlockEvent.HarvestDropsEvent event) {
         if (event.harvester != null) {
@@ -24,4 +32,26 @@ public class BlockHandler {
             }
         }
     }
+
+    @SubscribeEvent
+    public void onWorldLoad(WorldEvent.Load event) {
+        if (!event.world.isRemote) {
+            BlockChangeWatcher watcher = new BlockChangeWatcher(event.world);
+            event.world.addWorldAccess(watcher);
+            blockChangeWatchers.put(event.world, watcher);
+        }
+    }
+
+    @SubscribeEvent
+    public void onWorldUnload(WorldEvent.Unload event) {
+        blockChangeWatchers.remove(event.world);
+    }
+
+    /**
+     * @param world the world.
+     * @return the block change watcher of the world, or null if the world is a client world.
+     */
+    public BlockChangeWatcher getBlockChangeWatcher(World world) {
+        return blockChangeWatchers.get(world);
+    }
 }
@@ -42,6 +42,9 @@ public class ConfigurationHandler {
     public static final String KEY_AUTOMATIC_RECIPE_CALCULATION = "automatic matter calculation from recipe";
     public static final String KEY_AUTOMATIC_FURNACE_CALCULATION = "automatic matter calculation from furnace";
     public static final String KEY_MAX_BROADCASTS = "max broadcasts per tick";
+    public static final String KEY_QUEUE_PACKETS_PER_TICK = "packet queue packets per tick";
+    public static final String KEY_QUEUE_MAX_BROADCASTS = "packet queue max broadcasts per tick";
+    public static final String KEY_QUEUE_FLASH_DELAY = "packet queue flash delay";
     public static final String KEY_BLACKLIST = "blacklist";
     public static final String KEY_BLACKLIST_MODS = "mod_blacklist";
     public static final String KEY_GRAVITATIONAL_ANOMALY_FALLING_BLOCKS = "gravitational anomaly falling blocks";
@@ -0,0 +1,114 @@
+package matteroverdrive.handler;
+
+import cpw.mods.fml.common.gameevent.TickEvent;
+import matteroverdrive.util.EntityIndex;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.util.AxisAlignedBB;
+import net.minecraft.world.World;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Answers the nearby player and entity queries of machines.
+ * The players of each server world are collected once at the start of the world tick, and the entities are indexed
+ * the first time they are queried in a tick, so all the machines of a world share the same lookup.
+ * Client worlds are not ticked, so their queries go to the world directly, as do queries made outside the world tick.
+ * The players and entities are dropped at the end of the world tick and the world is forgotten when it unloads,
+ * so the handler never keeps a world or its entities alive.
+ */
+public class EntityProximityHandler {
+    private final Map<World, WorldProximity> worlds = new WeakHashMap<>();
+
+    public void onWorldTick(TickEvent.Phase phase, World world) {
+        if (phase == TickEvent.Phase.START) {
+            WorldProximity proximity = worlds.get(world);
+            if (proximity == null) {
+                proximity = new WorldProximity();
+                worlds.put(world, proximity);
+            }
+            proximity.refresh(world);
+        } else {
+            WorldProximity proximity = worlds.get(world);
+            if (proximity != null) {
+                proximity.clear();
+            }
+        }
+    }
+
+    public void onWorldUnload(World world) {
+        worlds.remove(world);
+    }
+
+    /**
+     * @param world the world.
+     * @param box   the search box.
+     * @return the players whose bounding box intersects the search box.
+     */
+    public List<EntityPlayer> getPlayersWithinAABB(World world, AxisAlignedBB box) {
+        WorldProximity proximity = worlds.get(world);
+        if (world.isRemote || proximity == null || !proximity.ticking) {
+            return world.getEntitiesWithinAABB(EntityPlayer.class, box);
+        }
+
+        List<EntityPlayer> players = new ArrayList<>();
+        for (EntityPlayer player : proximity.players) {
+            if (!player.isDead && player.boundingBox.intersectsWith(box)) {
+                players.add(player);
+            }
+        }
+        return players;
+    }
+
+    /**
+     * @param world the world.
+     * @param type  the type of the entities.
+     * @param box   the search box.
+     * @return the entities of the given type whose bounding box intersects the search box.
+     */
+    public <T extends Entity> List<T> getEntitiesWithinAABB(World world, Class<T> type, AxisAlignedBB box) {
+        WorldProximity proximity = worlds.get(world);
+        if (world.isRemote || proximity == null || !proximity.ticking) {
+            return world.getEntitiesWithinAABB(type, box);
+        }
+
+        if (!proximity.indexed) {
+            proximity.entities.build(world);
+            proximity.indexed = true;
+        }
+
+        List<T> entities = new ArrayList<>();
+        for (Entity entity : proximity.entities.query(box)) {
+            if (type.isInstance(entity)) {
+                entities.add(type.cast(entity));
+            }
+        }
+        proximity.entities.clearResult();
+        return entities;
+    }
+
+    private static class WorldProximity {
+        private final List<EntityPlayer> players = new ArrayList<>();
+        private final EntityIndex<Entity> entities = new EntityIndex<>(Entity.class);
+        private boolean indexed;
+        private boolean ticking;
+
+        void refresh(World world) {
+            clear();
+            for (Object player : world.playerEntities) {
+                players.add((EntityPlayer) player);
+            }
+            ticking = true;
+        }
+
+        void clear() {
+            players.clear();
+            entities.clear();
+            indexed = false;
+            ticking = false;
+        }
+    }
+}
@@ -3,8 +3,10 @@ package matteroverdrive.handler;
 import cpw.mods.fml.common.gameevent.TickEvent;
 import matteroverdrive.MatterOverdrive;
 import matteroverdrive.api.network.IMatterNetworkHandler;
+import matteroverdrive.tile.TileEntityMachinePacketQueue;
 import matteroverdrive.util.IConfigSubscriber;
 import matteroverdrive.util.MOLog;
+import net.minecraft.tileentity.TileEntity;
 import net.minecraft.world.World;
 import org.apache.logging.log4j.Level;
 
@@ -18,11 +20,13 @@ public class MatterNetworkTickHandler implements IConfigSubscriber {
 
         if (broadcastCount < max_broadcasts) {
             if (id_count >= last_ID) {
+                long start = TickProfiler.start();
                 try {
                     broadcastCount += handler.onNetworkTick(world, phase);
                 } catch (Exception e) {
                     MOLog.log(Level.FATAL, e, "There was a problem while ticking MatterNetworkHandler %s", handler);
                 }
+                TickProfiler.end(TickProfiler.Section.MATTER_NETWORK, handler instanceof TileEntity ? (TileEntity) handler : null, start);
             }
 
             id_count++;
@@ -50,5 +54,8 @@ public class MatterNetworkTickHandler implements IConfigSubscriber {
     @Override
     public void onConfigChanged(ConfigurationHandler config) {
         this.max_broadcasts = config.getInt(ConfigurationHandler.KEY_MAX_BROADCASTS, ConfigurationHandler.CATEGORY_MATTER_NETWORK, 128, "The maximum amount of network packet broadcasts per tick.");
+        TileEntityMachinePacketQueue.PACKETS_PER_TICK = config.getInt(ConfigurationHandler.KEY_QUEUE_PACKETS_PER_TICK, ConfigurationHandler.CATEGORY_MATTER_NETWORK, 1, "The amount of packets a Network Router or Switch sends each tick from each of its queues. Speed upgrades increase it.");
+        TileEntityMachinePacketQueue.MAX_BROADCASTS_PER_TICK = config.getInt(ConfigurationHandler.KEY_QUEUE_MAX_BROADCASTS, ConfigurationHandler.CATEGORY_MATTER_NETWORK, 24, "The maximum amount of packet broadcasts of a single Network Router or Switch per tick.");
+        TileEntityMachinePacketQueue.FLASH_DELAY = config.getInt(ConfigurationHandler.KEY_QUEUE_FLASH_DELAY, ConfigurationHandler.CATEGORY_MATTER_NETWORK, 4, "The minimum delay in ticks between the flashes of a Network Router or Switch that are sent to clients.");
     }
 }
@@ -0,0 +1,115 @@
+package matteroverdrive.handler;
+
+import cpw.mods.fml.common.gameevent.TickEvent;
+import matteroverdrive.tile.pipes.TileEntityMatterPipe;
+import matteroverdrive.tile.pipes.TileEntityPipe;
+import matteroverdrive.util.MOLog;
+import net.minecraft.world.World;
+import org.apache.logging.log4j.Level;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * Updates pipes on the server, as pipes are not ticked by the world.
+ * Pipes are queued when they are loaded or placed and when a neighbour changes, and all queued pipes of a world are updated
+ * once at the end of the world tick, so the client updates of the pipes in a chunk are sent together.
+ * Matter pipes are only stepped while they hold matter.
+ */
+public class PipeUpdateHandler {
+    private final Map<World, WorldPipes> worlds = new WeakHashMap<>();
+
+    public void queueUpdate(TileEntityPipe pipe) {
+        getWorldPipes(pipe.getWorldObj()).queuedPipes.add(pipe);
+    }
+
+    /**
+     * Steps the matter pipe every tick, until it holds no more matter.
+     */
+    public void queueTransfer(TileEntityMatterPipe pipe) {
+        getWorldPipes(pipe.getWorldObj()).transferringPipes.add(pipe);
+    }
+
+    /**
+     * Drops the pipe from the queues, when it is invalidated or its chunk unloads.
+     */
+    public void remove(TileEntityPipe pipe) {
+        WorldPipes pipes = worlds.get(pipe.getWorldObj());
+        if (pipes != null) {
+            pipes.queuedPipes.remove(pipe);
+            pipes.transferringPipes.remove(pipe);
+        }
+    }
+
+    public void onWorldUnload(World world) {
+        worlds.remove(world);
+    }
+
+    public void onWorldTick(TickEvent.Phase phase, World world) {
+        if (phase != TickEvent.Phase.END) {
+            return;
+        }
+
+        WorldPipes pipes = worlds.get(world);
+        if (pipes == null) {
+            return;
+        }
+
+        try {
+            pipes.update(world);
+        } catch (Throwable e) {
+            MOLog.log(Level.ERROR, e, "There was an Error while updating Pipes.");
+        }
+    }
+
+    private WorldPipes getWorldPipes(World world) {
+        WorldPipes pipes = worlds.get(world);
+        if (pipes == null) {
+            pipes = new WorldPipes();
+            worlds.put(world, pipes);
+        }
+        return pipes;
+    }
+
+    private static class WorldPipes {
+        private final Set<TileEntityPipe> queuedPipes = new LinkedHashSet<>();
+        private final Set<TileEntityMatterPipe> transferringPipes = new LinkedHashSet<>();
+        private final List<TileEntityPipe> updatingPipes = new ArrayList<>();
+        private final List<TileEntityMatterPipe> steppingPipes = new ArrayList<>();
+
+        void update(World world) {
+            //pipes can queue their neighbours while updating, those are updated in the next tick
+            updatingPipes.addAll(queuedPipes);
+            queuedPipes.clear();
+            for (TileEntityPipe pipe : updatingPipes) {
+                if (isLoaded(world, pipe)) {
+                    pipe.updatePipe();
+                }
+            }
+            updatingPipes.clear();
+
+            steppingPipes.addAll(transferringPipes);
+            for (TileEntityMatterPipe pipe : steppingPipes) {
+                if (!isLoaded(world, pipe) || pipe.getMatterStored() <= 0) {
+                    transferringPipes.remove(pipe);
+                } else {
+                    long start = TickProfiler.start();
+                    pipe.manageTransfer();
+                    TickProfiler.end(TickProfiler.Section.PIPE_NETWORK, pipe, start);
+                }
+            }
+            steppingPipes.clear();
+        }
+
+        /**
+         * Checks that the pipe is still the one in the world, without loading its chunk again.
+         */
+        private boolean isLoaded(World world, TileEntityPipe pipe) {
+            return !pipe.isInvalid() && world.blockExists(pipe.xCoord, pipe.yCoord, pipe.zCoord) && world.getTileEntity(pipe.xCoord, pipe.yCoord, pipe.zCoord) == pipe;
+        }
+    }
+}
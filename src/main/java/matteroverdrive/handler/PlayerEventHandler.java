@@ -65,7 +65,9 @@ public class PlayerEventHandler {
             if (event.side == Side.CLIENT) {
                 extendedProperties.update(Side.CLIENT);
             } else {
+                long start = TickProfiler.start();
                 extendedProperties.update(Side.SERVER);
+                TickProfiler.end(TickProfiler.Section.QUESTS, start);
             }
         }
 
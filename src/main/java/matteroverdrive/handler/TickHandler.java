@@ -5,17 +5,23 @@ import cpw.mods.fml.common.eventhandler.SubscribeEvent;
 import cpw.mods.fml.common.gameevent.TickEvent;
 import cpw.mods.fml.relauncher.Side;
 import matteroverdrive.MatterOverdrive;
+import matteroverdrive.api.gravity.IGravitationalAnomaly;
 import matteroverdrive.api.network.IMatterNetworkHandler;
+import matteroverdrive.handler.weapon.PlasmaBoltManager;
 import matteroverdrive.proxy.ClientProxy;
 import matteroverdrive.tile.IMOTickable;
 import matteroverdrive.util.MOLog;
 import net.minecraft.client.Minecraft;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.world.World;
+import net.minecraftforge.event.world.WorldEvent;
 import org.apache.logging.log4j.Level;
 
 public class TickHandler {
     private MatterNetworkTickHandler matterNetworkTickHandler;
+    private PlasmaBoltManager plasmaBoltManager;
+    private EntityProximityHandler entityProximityHandler;
+    private PipeUpdateHandler pipeUpdateHandler;
     private PlayerEventHandler playerEventHandler;
     private boolean worldStartFired = false;
     private long lastTickTime;
@@ -24,6 +30,9 @@ public class TickHandler {
     public TickHandler(ConfigurationHandler configurationHandler, PlayerEventHandler playerEventHandler) {
         this.playerEventHandler = playerEventHandler;
         this.matterNetworkTickHandler = new MatterNetworkTickHandler();
+        this.plasmaBoltManager = new PlasmaBoltManager();
+        this.entityProximityHandler = new EntityProximityHandler();
+        this.pipeUpdateHandler = new PipeUpdateHandler();
         configurationHandler.subscribe(matterNetworkTickHandler);
     }
 
@@ -45,6 +54,10 @@ public class TickHandler {
     @SubscribeEvent
     public void onServerTick(TickEvent.ServerTickEvent event) {
         playerEventHandler.onServerTick(event);
+        if (event.phase == TickEvent.Phase.END) {
+            TickProfiler.onServerTickEnd();
+        }
+        MatterOverdrive.proxy.getWeaponHandler().onServerTick(event);
 
         lastTickLength = (int) (System.nanoTime() - lastTickTime);
         lastTickTime = System.nanoTime();
@@ -69,6 +82,13 @@ public class TickHandler {
         }
 
         if (event.side.isServer()) {
+            if (event.phase == TickEvent.Phase.START) {
+                entityProximityHandler.onWorldTick(event.phase, event.world);
+            }
+            long boltsStart = TickProfiler.start();
+            plasmaBoltManager.onWorldTick(event.phase, event.world);
+            TickProfiler.end(TickProfiler.Section.PLASMA_BOLTS, boltsStart);
+            pipeUpdateHandler.onWorldTick(event.phase, event.world);
 
             matterNetworkTickHandler.onWorldTickPre(event.phase, event.world);
             int tileEntityListSize = event.world.loadedTileEntityList.size();
@@ -80,7 +100,9 @@ public class TickHandler {
                         if (tileEntity instanceof IMatterNetworkHandler) {
                             matterNetworkTickHandler.updateHandler((IMatterNetworkHandler) tileEntity, event.phase, event.world);
                         } else {
+                            long start = TickProfiler.start();
                             ((IMOTickable) tileEntity).onServerTick(event.phase, event.world);
+                            TickProfiler.end(tileEntity instanceof IGravitationalAnomaly ? TickProfiler.Section.ANOMALIES : TickProfiler.Section.TILE_ENTITIES, tileEntity, start);
                         }
 
                     }
@@ -91,6 +113,10 @@ public class TickHandler {
             }
 
             matterNetworkTickHandler.onWorldTickPost(event.phase, event.world);
+            //the machines query nearby entities until the end of the tick, so they are only dropped after all machines updated
+            if (event.phase == TickEvent.Phase.END) {
+                entityProximityHandler.onWorldTick(event.phase, event.world);
+            }
         }
 
         MatterOverdrive.moWorld.onWorldTick(event);
@@ -100,7 +126,27 @@ public class TickHandler {
 
     }
 
+    //Called on the forge event bus, the per world state must not keep unloaded worlds alive
+    @SubscribeEvent
+    public void onWorldUnload(WorldEvent.Unload event) {
+        entityProximityHandler.onWorldUnload(event.world);
+        plasmaBoltManager.onWorldUnload(event.world);
+        pipeUpdateHandler.onWorldUnload(event.world);
+    }
+
     public int getLastTickLength() {
         return lastTickLength;
     }
+
+    public PlasmaBoltManager getPlasmaBoltManager() {
+        return plasmaBoltManager;
+    }
+
+    public EntityProximityHandler getEntityProximityHandler() {
+        return entityProximityHandler;
+    }
+
+    public PipeUpdateHandler getPipeUpdateHandler() {
+        return pipeUpdateHandler;
+    }
 }
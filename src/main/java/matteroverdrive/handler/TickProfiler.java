@@ -0,0 +1,262 @@
+package matteroverdrive.handler;
+
+import net.minecraft.tileentity.TileEntity;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Records how much server time the tick entry points of the mod take, while a sampling window is running.
+ * Entry points call {@link #start()} and pass the result to {@link #end(Section, long)}.
+ * While no window is running both are a single field check, and no time is measured.
+ * Tile entities are recorded by their type, dimension and position, so the window does not keep unloaded tile entities alive.
+ */
+public class TickProfiler {
+    private static boolean running;
+    private static long windowStart;
+    private static long windowEnd;
+    private static int ticks;
+    private static final SectionStats[] sectionStats = new SectionStats[Section.values().length];
+    private static final Map<TileKey, TileStats> tileStats = new HashMap<>();
+
+    static {
+        for (int i = 0; i < sectionStats.length; i++) {
+            sectionStats[i] = new SectionStats();
+        }
+    }
+
+    //region Sampling Window
+    public static void startWindow() {
+        for (SectionStats stats : sectionStats) {
+            stats.reset();
+        }
+        tileStats.clear();
+        ticks = 0;
+        windowStart = System.nanoTime();
+        running = true;
+    }
+
+    public static void stopWindow() {
+        if (running) {
+            running = false;
+            windowEnd = System.nanoTime();
+        }
+    }
+
+    public static boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Closes the timings of the current server tick.
+     */
+    public static void onServerTickEnd() {
+        if (running) {
+            ticks++;
+            for (SectionStats stats : sectionStats) {
+                stats.endTick();
+            }
+        }
+    }
+    //endregion
+
+    //region Recording
+    /**
+     * @return the start time of the measurement, or 0 if no window is running.
+     */
+    public static long start() {
+        return running ? System.nanoTime() : 0;
+    }
+
+    public static void end(Section section, long start) {
+        if (running && start != 0) {
+            sectionStats[section.ordinal()].add(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Records the time of a section that was spent on a single tile entity, so the tile entity can be ranked.
+     */
+    public static void end(Section section, TileEntity tileEntity, long start) {
+        if (running && start != 0) {
+            long time = System.nanoTime() - start;
+            sectionStats[section.ordinal()].add(time);
+            if (tileEntity == null) {
+                return;
+            }
+            TileKey key = new TileKey(tileEntity);
+            TileStats stats = tileStats.get(key);
+            if (stats == null) {
+                stats = new TileStats(key, section);
+                tileStats.put(key, stats);
+            }
+            stats.time += time;
+            stats.calls++;
+        }
+    }
+    //endregion
+
+    //region Report
+    public static int getTicks() {
+        return ticks;
+    }
+
+    /**
+     * @return the length of the window in nanoseconds, up to now if it is still running.
+     */
+    public static long getWindowLength() {
+        return (running ? System.nanoTime() : windowEnd) - windowStart;
+    }
+
+    public static SectionStats getStats(Section section) {
+        return sectionStats[section.ordinal()];
+    }
+
+    /**
+     * @param count the maximum amount of tile entities.
+     * @return the tile entities that took the most time in the window, most expensive first.
+     */
+    public static List<TileStats> getMostExpensiveTiles(int count) {
+        List<TileStats> tiles = new ArrayList<>(tileStats.values());
+        Collections.sort(tiles, (a, b) -> Long.compare(b.time, a.time));
+        return tiles.subList(0, Math.min(count, tiles.size()));
+    }
+    //endregion
+
+    public enum Section {
+        MATTER_NETWORK("Matter Networks"),
+        PIPE_NETWORK("Pipe Networks"),
+        ANOMALIES("Gravitational Anomalies"),
+        TILE_ENTITIES("Other Tile Entities"),
+        GALAXY("Galaxy"),
+        ANDROID_PLAYERS("Android Players"),
+        QUESTS("Quests"),
+        BUILDING_GENERATION("Building Generation"),
+        PLASMA_BOLTS("Plasma Bolts");
+
+        private final String name;
+
+        Section(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+
+    public static class SectionStats {
+        private long totalTime;
+        private long calls;
+        private long tickTime;
+        private long maxTickTime;
+
+        void add(long time) {
+            totalTime += time;
+            tickTime += time;
+            calls++;
+        }
+
+        void endTick() {
+            maxTickTime = Math.max(maxTickTime, tickTime);
+            tickTime = 0;
+        }
+
+        void reset() {
+            totalTime = calls = tickTime = maxTickTime = 0;
+        }
+
+        public long getTotalTime() {
+            return totalTime;
+        }
+
+        public long getCalls() {
+            return calls;
+        }
+
+        public long getMaxTickTime() {
+            return maxTickTime;
+        }
+    }
+
+    private static final class TileKey {
+        final Class<? extends TileEntity> type;
+        final int dimension;
+        final int x;
+        final int y;
+        final int z;
+
+        TileKey(TileEntity tileEntity) {
+            this.type = tileEntity.getClass();
+            this.dimension = tileEntity.getWorldObj() != null ? tileEntity.getWorldObj().provider.dimensionId : 0;
+            this.x = tileEntity.xCoord;
+            this.y = tileEntity.yCoord;
+            this.z = tileEntity.zCoord;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof TileKey)) {
+                return false;
+            }
+            TileKey other = (TileKey) obj;
+            return type == other.type && dimension == other.dimension && x == other.x && y == other.y && z == other.z;
+        }
+
+        @Override
+        public int hashCode() {
+            int hash = type.hashCode();
+            hash = 31 * hash + dimension;
+            hash = 31 * hash + x;
+            hash = 31 * hash + y;
+            return 31 * hash + z;
+        }
+    }
+
+    public static class TileStats {
+        private final TileKey key;
+        private final Section section;
+        private long time;
+        private long calls;
+
+        TileStats(TileKey key, Section section) {
+            this.key = key;
+            this.section = section;
+        }
+
+        public Class<? extends TileEntity> getType() {
+            return key.type;
+        }
+
+        public int getDimension() {
+            return key.dimension;
+        }
+
+        public int getX() {
+            return key.x;
+        }
+
+        public int getY() {
+            return key.y;
+        }
+
+        public int getZ() {
+            return key.z;
+        }
+
+        public Section getSection() {
+            return section;
+        }
+
+        public long getTime() {
+            return time;
+        }
+
+        public long getCalls() {
+            return calls;
+        }
+    }
+}
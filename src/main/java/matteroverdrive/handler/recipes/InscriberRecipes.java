@@ -1,47 +1,129 @@
 package matteroverdrive.handler.recipes;
 
 import matteroverdrive.data.recipes.InscriberRecipe;
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
+import net.minecraftforge.oredict.OreDictionary;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
+/**
+ * The registry of Inscriber recipes.
+ * Recipes are indexed by the item and damage of their main input, so looking up a recipe only checks the
+ * recipes that can match the main input. Recipes with a {@link OreDictionary#WILDCARD_VALUE} damage match any damage.
+ */
 public class InscriberRecipes {
     private static List<InscriberRecipe> recipes = new ArrayList<>();
+    private static Map<RecipeKey, List<InscriberRecipe>> recipesByMain = new HashMap<>();
+    private static Set<RecipeKey> mainKeys = new HashSet<>();
+    private static Set<RecipeKey> secKeys = new HashSet<>();
 
     public static void registerRecipe(InscriberRecipe recipe) {
+        if (recipe.getMain() == null || recipe.getSec() == null) {
+            return;
+        }
+
         recipes.add(recipe);
+        RecipeKey mainKey = getKey(recipe.getMain());
+        List<InscriberRecipe> candidates = recipesByMain.get(mainKey);
+        if (candidates == null) {
+            candidates = new ArrayList<>(1);
+            recipesByMain.put(mainKey, candidates);
+        }
+        candidates.add(recipe);
+        mainKeys.add(mainKey);
+        secKeys.add(getKey(recipe.getSec()));
     }
 
     public static InscriberRecipe getRecipe(ItemStack main, ItemStack sec) {
-        for (InscriberRecipe recipe : recipes) {
-            if (recipe.matches(main, sec)) {
-                return recipe;
+        return getRecipe(main, sec, null);
+    }
+
+    /**
+     * Finds the recipe for the given inputs.
+     *
+     * @param main      the main input.
+     * @param sec       the secondary input.
+     * @param lastMatch the last recipe found for the inscriber. It is checked first, as the inputs rarely change type.
+     * @return the recipe or null if there is none.
+     */
+    public static InscriberRecipe getRecipe(ItemStack main, ItemStack sec, InscriberRecipe lastMatch) {
+        if (main == null || sec == null) {
+            return null;
+        }
+
+        if (lastMatch != null && lastMatch.matches(main, sec)) {
+            return lastMatch;
+        }
+
+        InscriberRecipe recipe = findRecipe(recipesByMain.get(getKey(main)), main, sec);
+        if (recipe == null && main.getItemDamage() != OreDictionary.WILDCARD_VALUE) {
+            recipe = findRecipe(recipesByMain.get(getWildcardKey(main)), main, sec);
+        }
+        return recipe;
+    }
+
+    private static InscriberRecipe findRecipe(List<InscriberRecipe> candidates, ItemStack main, ItemStack sec) {
+        if (candidates != null) {
+            for (InscriberRecipe recipe : candidates) {
+                if (recipe.matches(main, sec)) {
+                    return recipe;
+                }
             }
         }
         return null;
     }
 
     public static boolean containedInRecipe(ItemStack itemStack, boolean main) {
-        if (itemStack != null) {
-            ItemStack other;
-            for (InscriberRecipe recipe : recipes) {
-                if (main) {
-                    other = recipe.getMain();
-                } else {
-                    other = recipe.getSec();
-                }
-                if (other != null) {
-                    if (itemStack.getItem() == other.getItem() && itemStack.getItemDamage() == other.getItemDamage()) {
-                        return true;
-                    }
-                }
-            }
+        if (itemStack != null && itemStack.getItem() != null) {
+            Set<RecipeKey> keys = main ? mainKeys : secKeys;
+            return keys.contains(getKey(itemStack)) || keys.contains(getWildcardKey(itemStack));
         }
         return false;
     }
 
+    private static RecipeKey getKey(ItemStack itemStack) {
+        return new RecipeKey(itemStack.getItem(), itemStack.getItemDamage());
+    }
+
+    private static RecipeKey getWildcardKey(ItemStack itemStack) {
+        return new RecipeKey(itemStack.getItem(), OreDictionary.WILDCARD_VALUE);
+    }
+
     public static List<InscriberRecipe> getRecipes() {
-        return recipes;
+        return Collections.unmodifiableList(recipes);
+    }
+
+    /**
+     * The item instance and damage of a recipe input.
+     * Numeric item IDs are remapped by FML for each world, so the item itself is used.
+     */
+    private static final class RecipeKey {
+        private final Item item;
+        private final int damage;
+
+        RecipeKey(Item item, int damage) {
+            this.item = item;
+            this.damage = damage & 0xFFFF;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj instanceof RecipeKey) {
+                return item == ((RecipeKey) obj).item && damage == ((RecipeKey) obj).damage;
+            }
+            return false;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(item) * 31 + damage;
+        }
     }
 }
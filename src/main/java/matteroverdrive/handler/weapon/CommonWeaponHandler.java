@@ -1,39 +1,121 @@
 package matteroverdrive.handler.weapon;
 
 import cpw.mods.fml.common.eventhandler.SubscribeEvent;
+import cpw.mods.fml.common.gameevent.TickEvent;
 import matteroverdrive.MatterOverdrive;
 import matteroverdrive.api.events.weapon.MOEventEnergyWeapon;
 import matteroverdrive.entity.player.AndroidPlayer;
 import matteroverdrive.network.packet.bi.PacketFirePlasmaShot;
+import matteroverdrive.network.packet.client.PacketFirePlasmaShotBatch;
+import net.minecraft.entity.Entity;
 import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.world.WorldServer;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 
 public class CommonWeaponHandler {
     private static final PacketFirePlasmaShot.BiHandler firePlasmaShotHandler = new PacketFirePlasmaShot.BiHandler();
-    Map<EntityPlayer, Long> weaponTimestamps;
+    /**
+     * How many server ticks a weapon timestamp is kept after the player last sent one.
+     */
+    private static final int TIMESTAMP_EXPIRY = 20 * 60;
+    private final Map<UUID, WeaponTimestamp> weaponTimestamps;
+    private final List<QueuedShot> queuedShots;
+    private long serverTicks;
 
     public CommonWeaponHandler() {
         weaponTimestamps = new HashMap<>();
+        queuedShots = new ArrayList<>();
     }
 
+    //region Timestamps
     public void addTimestamp(EntityPlayer player, long timestamp) {
-        weaponTimestamps.put(player, timestamp);
+        WeaponTimestamp weaponTimestamp = weaponTimestamps.get(player.getUniqueID());
+        if (weaponTimestamp == null) {
+            weaponTimestamp = new WeaponTimestamp();
+            weaponTimestamps.put(player.getUniqueID(), weaponTimestamp);
+        }
+        weaponTimestamp.timestamp = timestamp;
+        weaponTimestamp.lastUpdate = serverTicks;
     }
 
     public boolean hasTimestamp(EntityPlayer player) {
-        return weaponTimestamps.containsKey(player);
+        return weaponTimestamps.containsKey(player.getUniqueID());
     }
 
     public long getTimestamp(EntityPlayer entityPlayer) {
-        return weaponTimestamps.get(entityPlayer);
+        WeaponTimestamp weaponTimestamp = weaponTimestamps.get(entityPlayer.getUniqueID());
+        return weaponTimestamp != null ? weaponTimestamp.timestamp : 0;
     }
 
+    private void removeExpiredTimestamps() {
+        Iterator<WeaponTimestamp> iterator = weaponTimestamps.values().iterator();
+        while (iterator.hasNext()) {
+            if (serverTicks - iterator.next().lastUpdate > TIMESTAMP_EXPIRY) {
+                iterator.remove();
+            }
+        }
+    }
+    //endregion
+
     public void handlePlasmaShotFire(EntityPlayer entityPlayer, PacketFirePlasmaShot plasmaShot, long timeStamp) {
-        int delay = (int) (timeStamp - getTimestamp(entityPlayer));
+        int delay = hasTimestamp(entityPlayer) ? (int) (timeStamp - getTimestamp(entityPlayer)) : 0;
         firePlasmaShotHandler.handleServerShot(entityPlayer, plasmaShot, delay);
-        MatterOverdrive.packetPipeline.sendToAllAround(plasmaShot, entityPlayer, plasmaShot.getShot().getRange() + 64);
+        queueShotReplication(entityPlayer, plasmaShot, plasmaShot.getShot().getRange() + 64);
+    }
+
+    /**
+     * Queues the shot to be sent to the players tracking the shooter.
+     * All the shots queued during a tick are sent at the end of the tick, in one packet per player.
+     *
+     * @param shooter the entity that fired the shot.
+     * @param shot    the shot.
+     * @param range   the maximum distance of the players from the shooter.
+     */
+    public void queueShotReplication(Entity shooter, PacketFirePlasmaShot shot, double range) {
+        queuedShots.add(new QueuedShot(shooter, shot, range));
+    }
+
+    public void onServerTick(TickEvent.ServerTickEvent event) {
+        if (event.phase != TickEvent.Phase.END) {
+            return;
+        }
+
+        serverTicks++;
+        if (serverTicks % 20 == 0) {
+            removeExpiredTimestamps();
+        }
+
+        if (!queuedShots.isEmpty()) {
+            sendQueuedShots();
+            queuedShots.clear();
+        }
+    }
+
+    private void sendQueuedShots() {
+        List<PacketFirePlasmaShot> playerShots = new ArrayList<>();
+        for (WorldServer world : MinecraftServer.getServer().worldServers) {
+            for (Object p : world.playerEntities) {
+                EntityPlayerMP player = (EntityPlayerMP) p;
+                for (QueuedShot queuedShot : queuedShots) {
+                    if (queuedShot.isTrackedBy(player, world)) {
+                        playerShots.add(queuedShot.shot);
+                    }
+                }
+
+                if (!playerShots.isEmpty()) {
+                    MatterOverdrive.packetPipeline.sendTo(new PacketFirePlasmaShotBatch(playerShots), player);
+                    playerShots.clear();
+                }
+            }
+        }
     }
 
     @SubscribeEvent
@@ -45,4 +127,31 @@ public class CommonWeaponHandler {
             }
         }
     }
+
+    private static class WeaponTimestamp {
+        long timestamp;
+        long lastUpdate;
+    }
+
+    private static class QueuedShot {
+        final Entity shooter;
+        final PacketFirePlasmaShot shot;
+        final double rangeSq;
+
+        QueuedShot(Entity shooter, PacketFirePlasmaShot shot, double range) {
+            this.shooter = shooter;
+            this.shot = shot;
+            this.rangeSq = range * range;
+        }
+
+        /**
+         * The shooter doesn't need its own shot, as it already fired it on its side.
+         */
+        boolean isTrackedBy(EntityPlayerMP player, WorldServer world) {
+            return player != shooter
+                    && shooter.worldObj == world
+                    && player.getDistanceSqToEntity(shooter) <= rangeSq
+                    && world.getPlayerManager().isPlayerWatchingChunk(player, shooter.chunkCoordX, shooter.chunkCoordZ);
+        }
+    }
 }
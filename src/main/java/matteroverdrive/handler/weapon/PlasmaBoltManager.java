@@ -0,0 +1,119 @@
+package matteroverdrive.handler.weapon;
+
+import cpw.mods.fml.common.gameevent.TickEvent;
+import matteroverdrive.entity.weapon.PlasmaBolt;
+import matteroverdrive.util.EntityIndex;
+import matteroverdrive.util.MOLog;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.EntityLivingBase;
+import net.minecraft.util.AxisAlignedBB;
+import net.minecraft.util.Vec3;
+import net.minecraft.world.World;
+import org.apache.logging.log4j.Level;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Steps all the server side Plasma Bolts of a world in one pass, at the end of the world tick.
+ * Bolts queue themselves when the world updates them, so only bolts the world would have updated are stepped.
+ * The living entities of the world are indexed once per pass, and all bolts share the same scratch vectors and boxes.
+ * Bolts still queued when the world unloads are dropped with it.
+ */
+public class PlasmaBoltManager {
+    private final Map<World, List<PlasmaBolt>> queuedBolts = new WeakHashMap<>();
+    private final Simulation simulation = new Simulation();
+    private final EntityIndex<EntityLivingBase> entityIndex = new EntityIndex<>(EntityLivingBase.class);
+
+    public void queue(PlasmaBolt bolt) {
+        List<PlasmaBolt> bolts = queuedBolts.get(bolt.worldObj);
+        if (bolts == null) {
+            bolts = new ArrayList<>();
+            queuedBolts.put(bolt.worldObj, bolts);
+        }
+        bolts.add(bolt);
+    }
+
+    public void onWorldUnload(World world) {
+        queuedBolts.remove(world);
+    }
+
+    public void onWorldTick(TickEvent.Phase phase, World world) {
+        if (phase != TickEvent.Phase.END) {
+            return;
+        }
+
+        List<PlasmaBolt> bolts = queuedBolts.get(world);
+        if (bolts == null || bolts.isEmpty()) {
+            return;
+        }
+
+        try {
+            entityIndex.build(world);
+            simulation.index = entityIndex;
+            for (int i = 0; i < bolts.size(); i++) {
+                PlasmaBolt bolt = bolts.get(i);
+                if (!bolt.isDead) {
+                    bolt.simulate(simulation);
+                }
+            }
+        } catch (Throwable e) {
+            MOLog.log(Level.ERROR, e, "There was an Error while updating Plasma Bolts.");
+        } finally {
+            simulation.index = null;
+            entityIndex.clear();
+            bolts.clear();
+        }
+    }
+
+    /**
+     * The scratch objects used while stepping a bolt.
+     * A simulation must only be used by one thread. Without an index, entities are queried from the world directly.
+     */
+    public static class Simulation {
+        public final Vec3 start = Vec3.createVectorHelper(0, 0, 0);
+        public final Vec3 end = Vec3.createVectorHelper(0, 0, 0);
+        public final Vec3 position = Vec3.createVectorHelper(0, 0, 0);
+        private final AxisAlignedBB searchBox = AxisAlignedBB.getBoundingBox(0, 0, 0, 0, 0, 0);
+        private final AxisAlignedBB hitBox = AxisAlignedBB.getBoundingBox(0, 0, 0, 0, 0, 0);
+        private EntityIndex<EntityLivingBase> index;
+
+        public Vec3 set(Vec3 vec, double x, double y, double z) {
+            vec.xCoord = x;
+            vec.yCoord = y;
+            vec.zCoord = z;
+            return vec;
+        }
+
+        /**
+         * The same as {@code bounds.addCoord(x, y, z).expand(expand, expand, expand)}, without allocating.
+         */
+        public AxisAlignedBB getSearchBox(AxisAlignedBB bounds, double x, double y, double z, double expand) {
+            return searchBox.setBounds(
+                    bounds.minX + Math.min(x, 0) - expand, bounds.minY + Math.min(y, 0) - expand, bounds.minZ + Math.min(z, 0) - expand,
+                    bounds.maxX + Math.max(x, 0) + expand, bounds.maxY + Math.max(y, 0) + expand, bounds.maxZ + Math.max(z, 0) + expand);
+        }
+
+        /**
+         * The same as {@code bounds.expand(expand, expand, expand)}, without allocating.
+         */
+        public AxisAlignedBB getHitBox(AxisAlignedBB bounds, double expand) {
+            return hitBox.setBounds(bounds.minX - expand, bounds.minY - expand, bounds.minZ - expand, bounds.maxX + expand, bounds.maxY + expand, bounds.maxZ + expand);
+        }
+
+        /**
+         * @param world   the world of the bolt.
+         * @param exclude the bolt.
+         * @param box     the search box.
+         * @return the entities whose bounding box intersects the search box. Only living entities when using an index.
+         */
+        public List getEntities(World world, Entity exclude, AxisAlignedBB box) {
+            if (index != null) {
+                return index.query(box);
+            }
+            return world.getEntitiesWithinAABBExcludingEntity(exclude, box);
+        }
+    }
+}
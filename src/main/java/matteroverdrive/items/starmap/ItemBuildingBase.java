@@ -3,7 +3,6 @@ package matteroverdrive.items.starmap;
 import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
 import matteroverdrive.api.starmap.BuildingType;
-import matteroverdrive.api.starmap.IBuilding;
 import matteroverdrive.api.starmap.IPlanetStatChange;
 import matteroverdrive.api.starmap.PlanetStatType;
 import matteroverdrive.starmap.data.Planet;
@@ -35,11 +34,9 @@ public class ItemBuildingBase extends ItemBuildingAbstract implements IPlanetSta
 
     @Override
     public boolean canBuild(ItemStack building, Planet planet, List<String> info) {
-        for (ItemStack buildingStack : planet.getBuildings()) {
-            if (buildingStack.getItem() instanceof IBuilding && ((IBuilding) buildingStack.getItem()).getType(buildingStack) == BuildingType.BASE) {
-                info.add(MOStringHelper.translateToLocal("gui.tooltip.starmap.has_base"));
-                return false;
-            }
+        if (planet.hasBuildingType(BuildingType.BASE)) {
+            info.add(MOStringHelper.translateToLocal("gui.tooltip.starmap.has_base"));
+            return false;
         }
         return true;
     }
@@ -70,6 +70,7 @@ public abstract class MOTileEntityMachine extends MOTileEntity implements IMOTil
     protected boolean playerSlotsHotbar, playerSlotsMain;
 
     protected ComponentConfigs configs;
+    private long networkStamp;
 
     public MOTileEntityMachine(int upgradeCount) {
         components = new ArrayList<>();
@@ -657,5 +658,13 @@ public abstract class MOTileEntityMachine extends MOTileEntity implements IMOTil
     public IUpgradeHandler getUpgradeHandler() {
         return basicUpgradeHandler;
     }
+
+    public long getNetworkStamp() {
+        return networkStamp;
+    }
+
+    public void setNetworkStamp(long networkStamp) {
+        this.networkStamp = networkStamp;
+    }
     //endregion
 }
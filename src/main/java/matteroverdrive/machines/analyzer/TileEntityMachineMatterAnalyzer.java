@@ -96,8 +96,7 @@ public class TileEntityMachineMatterAnalyzer extends MOTileEntityMachineEnergy i
 
                 if (analyzeTime < getSpeed()) {
                     analyzeTime++;
-                } else {
-                    analyzeItem();
+                } else if (analyzeItem()) {
                     analyzeTime = 0;
                 }
             }
@@ -143,7 +142,12 @@ public class TileEntityMachineMatterAnalyzer extends MOTileEntityMachineEnergy i
         return false;
     }
 
-    public void analyzeItem() {
+    /**
+     * Stores the pattern of the analyzed item in the linked scanner, or queues it as a task to the network.
+     *
+     * @return was the pattern stored or queued. If not, the item is not consumed and the analysis is tried again.
+     */
+    public boolean analyzeItem() {
         ItemStack scanner = inventory.getStackInSlot(database_slot);
         ItemStack itemStack = inventory.getStackInSlot(input_slot);
         IMatterDatabase database = null;
@@ -159,19 +163,24 @@ public class TileEntityMachineMatterAnalyzer extends MOTileEntityMachineEnergy i
             } else {
                 //if the scanner cannot take the item for some reason
                 //then just queue the analyzed item as a task
-                MatterNetworkTaskStorePattern storePattern = new MatterNetworkTaskStorePattern(this, itemStack, PROGRESS_AMOUNT_PER_ITEM);
-                storePattern.setState(MatterNetworkTaskState.WAITING);
-                taskQueueSending.queue(storePattern);
+                if (!queueStorePattern(itemStack)) {
+                    return false;
+                }
             }
-        } else {
-            MatterNetworkTaskStorePattern storePattern = new MatterNetworkTaskStorePattern(this, itemStack, PROGRESS_AMOUNT_PER_ITEM);
-            storePattern.setState(MatterNetworkTaskState.WAITING);
-            taskQueueSending.queue(storePattern);
+        } else if (!queueStorePattern(itemStack)) {
+            return false;
         }
 
         decrStackSize(input_slot, 1);
         forceClientUpdate = true;
         markDirty();
+        return true;
+    }
+
+    private boolean queueStorePattern(ItemStack itemStack) {
+        MatterNetworkTaskStorePattern storePattern = new MatterNetworkTaskStorePattern(this, itemStack, PROGRESS_AMOUNT_PER_ITEM);
+        storePattern.setState(MatterNetworkTaskState.WAITING);
+        return taskQueueSending.queue(storePattern);
     }
 
     @Override
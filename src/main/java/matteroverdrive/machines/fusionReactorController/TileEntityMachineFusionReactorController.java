@@ -1,8 +1,6 @@
 package matteroverdrive.machines.fusionReactorController;
 
 
-import cofh.api.energy.IEnergyConnection;
-import cofh.api.energy.IEnergyReceiver;
 import cpw.mods.fml.common.Optional;
 import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
@@ -14,7 +12,9 @@ import li.cil.oc.api.machine.Arguments;
 import li.cil.oc.api.machine.Context;
 import li.cil.oc.api.network.ManagedPeripheral;
 import li.cil.oc.api.network.SimpleComponent;
+import matteroverdrive.MatterOverdrive;
 import matteroverdrive.api.inventory.UpgradeTypes;
+import matteroverdrive.data.AdjacentEnergyReceivers;
 import matteroverdrive.data.BlockPos;
 import matteroverdrive.init.MatterOverdriveBlocks;
 import matteroverdrive.machines.MachineNBTCategory;
@@ -27,6 +27,8 @@ import matteroverdrive.tile.TileEntityFusionReactorPart;
 import matteroverdrive.tile.TileEntityGravitationalAnomaly;
 import matteroverdrive.util.MOEnergyHelper;
 import matteroverdrive.util.TimeTracker;
+import matteroverdrive.world.BlockChangeWatcher;
+import matteroverdrive.world.IBlockChangeListener;
 import net.minecraft.block.Block;
 import net.minecraft.entity.EntityLivingBase;
 import net.minecraft.init.Blocks;
@@ -41,6 +43,8 @@ import net.minecraftforge.fluids.Fluid;
 
 import java.text.DecimalFormat;
 import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
 
 import static java.lang.Math.round;
 import static matteroverdrive.util.MOBlockHelper.getAboveSide;
@@ -51,7 +55,7 @@ import static matteroverdrive.util.MOBlockHelper.getOppositeSide;
         @Optional.Interface(modid = "OpenComputers", iface = "li.cil.oc.api.network.SimpleComponent"),
         @Optional.Interface(modid = "OpenComputers", iface = "li.cil.oc.api.network.ManagedPeripheral")
 })
-public class TileEntityMachineFusionReactorController extends MOTileEntityMachineMatter implements IPeripheral, SimpleComponent, ManagedPeripheral {
+public class TileEntityMachineFusionReactorController extends MOTileEntityMachineMatter implements IPeripheral, SimpleComponent, ManagedPeripheral, IBlockChangeListener {
     public static int STRUCTURE_CHECK_DELAY = 40;
     public static final int[] positions = new int[]{0, 5, 1, 0, 2, 0, 3, 1, 4, 2, 5, 3, 5, 4, 5, 5, 5, 6, 5, 7, 4, 8, 3, 9, 2, 10, 1, 10, 0, 10, -1, 10, -2, 10, -3, 9, -4, 8, -5, 7, -5, 6, -5, 5, -5, 4, -5, 3, -4, 2, -3, 1, -2, 0, -1, 0};
     public static final int[] blocks = new int[]{255, 2, 0, 0, 0, 0, 1, 1, 1, 0, 0, 0, 0, 1, 1, 1, 0, 0, 0, 0, 1, 1, 1, 0, 0, 0, 0, 2};
@@ -72,6 +76,24 @@ public class TileEntityMachineFusionReactorController extends MOTileEntityMachin
     private float matterDrain;
     private ComponentComputers componentComputers;
     private MultiBlockTileStructureMachine multiBlock;
+    /**
+     * The result of the last structure validation, kept until a block the structure depends on changes.
+     */
+    private boolean structureChanged = true;
+    private boolean structureValid;
+    private String structureInfo = "INVALID\nSTRUCTURE";
+    private float structureEfficiency;
+    private int anomalyDistance;
+    private BlockChangeWatcher blockChangeWatcher;
+    /**
+     * The block and metadata at each watched position when the structure was validated.
+     * Blocks are also marked for update when only their tile entity syncs, so only actual changes invalidate the structure.
+     */
+    private final Map<Long, Integer> structureSnapshot = new HashMap<>();
+    /**
+     * The metadata of the controller when the structure was validated, as it holds the orientation of the ring.
+     */
+    private int structureMeta = -1;
 
 
     public TileEntityMachineFusionReactorController() {
@@ -189,100 +211,181 @@ public class TileEntityMachineFusionReactorController extends MOTileEntityMachin
     public void invalidate() {
         super.invalidate();
         multiBlock.invalidate();
+        stopWatchingStructure();
+    }
+
+    @Override
+    public void onChunkUnload() {
+        super.onChunkUnload();
+        stopWatchingStructure();
     }
 
     public void manageStructure() {
         if (structureCheckTimer.hasDelayPassed(worldObj, STRUCTURE_CHECK_DELAY)) {
-            multiBlock.update();
-            int meta = worldObj.getBlockMetadata(xCoord, yCoord, zCoord);
-            int anomalyDistance = MAX_GRAVITATIONAL_ANOMALY_DISTANCE + 1;
-            boolean validStructure = true;
-            String info = this.monitorInfo;
-            float energyEfficiency = this.energyEfficiency;
+            //a part whose chunk was unloaded is dropped here, and a chunk loading again does not notify the watcher,
+            //so the structure is validated again to add the new part instance
+            if (multiBlock.update()) {
+                structureChanged = true;
+            }
+            if (structureChanged || worldObj.getBlockMetadata(xCoord, yCoord, zCoord) != structureMeta) {
+                validateStructure();
+            }
+
+            boolean validStructure = structureValid;
+            String info = structureInfo;
+            float energyEfficiency = 0;
             float matterPerTick = this.matterPerTick;
 
-            for (int i = 0; i < positionsCount; i++) {
-                Vec3 offset = getPosition(i, meta);
-                BlockPos position = new BlockPos(xCoord + (int) round(offset.xCoord), yCoord + (int) round(offset.yCoord), zCoord + (int) round(offset.zCoord));
-
-                if (blocks[i] == 255) {
-                    BlockPos anomalyOffset = checkForGravitationalAnomaly(position, ForgeDirection.getOrientation(getAboveSide(meta)));
-
-                    if (anomalyOffset != null) {
-                        anomalyDistance = (int) Math.sqrt((anomalyOffset.x * anomalyOffset.x) + (anomalyOffset.y * anomalyOffset.y) + (anomalyOffset.z * anomalyOffset.z));
-                        if (anomalyDistance > MAX_GRAVITATIONAL_ANOMALY_DISTANCE) {
-                            validStructure = false;
-                            info = "GRAVITATIONAL\nANOMALY\nTOO\nFAR";
-                            break;
-                        }
-                        anomalyPosition = new BlockPos((int) offset.xCoord + anomalyOffset.x, (int) offset.yCoord + anomalyOffset.y, (int) offset.zCoord + anomalyOffset.z);
-                    } else {
+            if (anomalyPosition != null) {
+                double energyMultipy = getGravitationalAnomalyEnergyMultiply();
+                energyPerTick = (int) Math.round(ENERGY_PER_TICK * structureEfficiency * energyMultipy);
+                matterPerTick = (float) (MATTER_DRAIN_PER_TICK * energyMultipy);
+            }
+
+            if (validStructure) {
+                energyEfficiency = structureEfficiency;
+                info = "POWER " + Math.round((1f - ((float) anomalyDistance / (float) (MAX_GRAVITATIONAL_ANOMALY_DISTANCE + 1))) * 100) + "%";
+                info += "\nCHARGE " + DecimalFormat.getPercentInstance().format((double) getEnergyStored(ForgeDirection.UNKNOWN) / (double) getMaxEnergyStored(ForgeDirection.UNKNOWN));
+                info += "\nMATTER " + DecimalFormat.getPercentInstance().format((double) getMatterStored() / (double) getMatterCapacity());
+            }
+
+            if (this.validStructure != validStructure || !this.monitorInfo.equals(info) || this.energyEfficiency != energyEfficiency || this.matterPerTick != matterPerTick) {
+                this.validStructure = validStructure;
+                this.monitorInfo = info;
+                this.energyEfficiency = energyEfficiency;
+                this.matterPerTick = matterPerTick;
+                forceSync();
+            }
+        }
+    }
+
+    /**
+     * Checks the blocks of the ring and looks for the gravitational anomaly.
+     * The positions that were checked are watched, so the structure is only validated again once one of them changes,
+     * a part was dropped because its chunk unloaded, or while some of the positions are not loaded.
+     */
+    private void validateStructure() {
+        if (blockChangeWatcher == null) {
+            blockChangeWatcher = MatterOverdrive.blockHandler.getBlockChangeWatcher(worldObj);
+        }
+        //without a watcher the structure is validated on every check
+        if (blockChangeWatcher != null) {
+            blockChangeWatcher.unwatch(this);
+            structureChanged = false;
+        }
+        structureSnapshot.clear();
+
+        int meta = worldObj.getBlockMetadata(xCoord, yCoord, zCoord);
+        structureMeta = meta;
+        ForgeDirection up = ForgeDirection.getOrientation(getAboveSide(meta));
+        boolean validStructure = true;
+        String info = "INVALID\nSTRUCTURE";
+        int anomalyDistance = MAX_GRAVITATIONAL_ANOMALY_DISTANCE + 1;
+
+        for (int i = 0; i < positionsCount; i++) {
+            Vec3 offset = getPosition(i, meta);
+            BlockPos position = new BlockPos(xCoord + (int) round(offset.xCoord), yCoord + (int) round(offset.yCoord), zCoord + (int) round(offset.zCoord));
+
+            if (blocks[i] == 255) {
+                for (int d = -MAX_GRAVITATIONAL_ANOMALY_DISTANCE; d < MAX_GRAVITATIONAL_ANOMALY_DISTANCE + 1; d++) {
+                    watchStructureBlock(position.x + up.offsetX * d, position.y + up.offsetY * d, position.z + up.offsetZ * d);
+                }
+
+                BlockPos anomalyOffset = checkForGravitationalAnomaly(position, up);
+
+                if (anomalyOffset != null) {
+                    anomalyDistance = (int) Math.sqrt((anomalyOffset.x * anomalyOffset.x) + (anomalyOffset.y * anomalyOffset.y) + (anomalyOffset.z * anomalyOffset.z));
+                    if (anomalyDistance > MAX_GRAVITATIONAL_ANOMALY_DISTANCE) {
                         validStructure = false;
-                        info = "NO\nGRAVITATIONAL\nANOMALY";
-                        anomalyPosition = null;
+                        info = "GRAVITATIONAL\nANOMALY\nTOO\nFAR";
                         break;
                     }
-
-                    energyEfficiency = 1f - ((float) anomalyDistance / (float) (MAX_GRAVITATIONAL_ANOMALY_DISTANCE + 1));
-                    energyPerTick = (int) Math.round(ENERGY_PER_TICK * getEnergyEfficiency() * getGravitationalAnomalyEnergyMultiply());
-                    double energyMultipy = getGravitationalAnomalyEnergyMultiply();
-                    matterPerTick = (float) (MATTER_DRAIN_PER_TICK * energyMultipy);
+                    anomalyPosition = new BlockPos((int) offset.xCoord + anomalyOffset.x, (int) offset.yCoord + anomalyOffset.y, (int) offset.zCoord + anomalyOffset.z);
                 } else {
-                    Block block = position.getBlock(worldObj);
-                    TileEntity tileEntity = position.getTileEntity(worldObj);
+                    validStructure = false;
+                    info = "NO\nGRAVITATIONAL\nANOMALY";
+                    anomalyPosition = null;
+                    break;
+                }
 
-                    if (block == Blocks.air) {
+                structureEfficiency = 1f - ((float) anomalyDistance / (float) (MAX_GRAVITATIONAL_ANOMALY_DISTANCE + 1));
+            } else {
+                watchStructureBlock(position.x, position.y, position.z);
+                //a chunk loading does not notify the watcher, so the parts in it would never be added
+                if (!worldObj.blockExists(position.x, position.y, position.z)) {
+                    structureChanged = true;
+                }
+
+                Block block = position.getBlock(worldObj);
+                TileEntity tileEntity = position.getTileEntity(worldObj);
+
+                if (block == Blocks.air) {
+                    validStructure = false;
+                    info = "INVALID\nSTRUCTURE";
+                    break;
+                } else if (block == MatterOverdriveBlocks.machine_hull) {
+                    if (blocks[i] == 1) {
                         validStructure = false;
-                        info = "INVALID\nSTRUCTURE";
+                        info = "NEED\nMORE\nCOILS";
                         break;
-                    } else if (block == MatterOverdriveBlocks.machine_hull) {
-                        if (blocks[i] == 1) {
-                            validStructure = false;
-                            info = "NEED\nMORE\nCOILS";
-                            break;
-                        }
-                    } else if (block == MatterOverdriveBlocks.fusion_reactor_coil || tileEntity instanceof IMultiBlockTile) {
-                        if (blocks[i] == 0) {
-                            validStructure = false;
-                            info = "INVALID\nMATERIALS";
-                            break;
-                        }
-                    } else if (block == MatterOverdriveBlocks.decomposer) {
-                        if (blocks[i] != 2) {
-                            validStructure = false;
-                            info = "INVALID\nMATERIALS";
-                            break;
-                        }
-                    } else {
+                    }
+                } else if (block == MatterOverdriveBlocks.fusion_reactor_coil || tileEntity instanceof IMultiBlockTile) {
+                    if (blocks[i] == 0) {
                         validStructure = false;
                         info = "INVALID\nMATERIALS";
                         break;
                     }
-
-                    if (tileEntity instanceof IMultiBlockTile) {
-                        multiBlock.addMultiBlockTile((IMultiBlockTile) tileEntity);
+                } else if (block == MatterOverdriveBlocks.decomposer) {
+                    if (blocks[i] != 2) {
+                        validStructure = false;
+                        info = "INVALID\nMATERIALS";
+                        break;
                     }
+                } else {
+                    validStructure = false;
+                    info = "INVALID\nMATERIALS";
+                    break;
                 }
-            }
 
-            if (validStructure) {
-                info = "POWER " + Math.round((1f - ((float) anomalyDistance / (float) (MAX_GRAVITATIONAL_ANOMALY_DISTANCE + 1))) * 100) + "%";
-                info += "\nCHARGE " + DecimalFormat.getPercentInstance().format((double) getEnergyStored(ForgeDirection.UNKNOWN) / (double) getMaxEnergyStored(ForgeDirection.UNKNOWN));
-                info += "\nMATTER " + DecimalFormat.getPercentInstance().format((double) getMatterStored() / (double) getMatterCapacity());
-            } else {
-                energyEfficiency = 0;
+                if (tileEntity instanceof IMultiBlockTile) {
+                    multiBlock.addMultiBlockTile((IMultiBlockTile) tileEntity);
+                }
             }
+        }
 
-            if (this.validStructure != validStructure || !this.monitorInfo.equals(info) || this.energyEfficiency != energyEfficiency || this.matterPerTick != matterPerTick) {
-                this.validStructure = validStructure;
-                this.monitorInfo = info;
-                this.energyEfficiency = energyEfficiency;
-                this.matterPerTick = matterPerTick;
-                forceSync();
-            }
+        this.structureValid = validStructure;
+        this.structureInfo = info;
+        this.anomalyDistance = anomalyDistance;
+    }
+
+    @Override
+    public void onBlockChanged(World world, int x, int y, int z) {
+        Integer state = structureSnapshot.get(BlockChangeWatcher.getKey(x, y, z));
+        if (state == null || state != getBlockState(world, x, y, z)) {
+            structureChanged = true;
         }
     }
 
+    private void watchStructureBlock(int x, int y, int z) {
+        if (blockChangeWatcher != null) {
+            blockChangeWatcher.watch(this, x, y, z);
+            structureSnapshot.put(BlockChangeWatcher.getKey(x, y, z), getBlockState(worldObj, x, y, z));
+        }
+    }
+
+    private static int getBlockState(World world, int x, int y, int z) {
+        return Block.getIdFromBlock(world.getBlock(x, y, z)) << 4 | world.getBlockMetadata(x, y, z);
+    }
+
+    private void stopWatchingStructure() {
+        if (blockChangeWatcher != null) {
+            blockChangeWatcher.unwatch(this);
+            blockChangeWatcher = null;
+        }
+        structureSnapshot.clear();
+        structureChanged = true;
+    }
+
     private void manageEnergyGeneration() {
         if (isActive()) {
             int energyPerTick = getEnergyPerTick();
@@ -311,21 +414,10 @@ public class TileEntityMachineFusionReactorController extends MOTileEntityMachin
     }
 
     private void manageExtractFrom(MOTileEntityMachineEnergy source) {
-        TileEntity entity;
-        int energy;
-        int startDir = random.nextInt(6);
-
-        for (int i = 0; i < 6; i++) {
-            energy = Math.min(energyStorage.getEnergyStored(), ENERGY_STORAGE);
-            ForgeDirection dir = ForgeDirection.getOrientation((i + startDir) % 6);
-            entity = worldObj.getTileEntity(source.xCoord + dir.offsetX, source.yCoord + dir.offsetY, source.zCoord + dir.offsetZ);
-
-            if (entity instanceof IEnergyConnection) {
-                ((IEnergyConnection) entity).canConnectEnergy(dir.getOpposite());
-            }
-
-            if (entity instanceof IEnergyReceiver) {
-                int receivedEnergy = ((IEnergyReceiver) entity).receiveEnergy(dir.getOpposite(), energy, false);
+        AdjacentEnergyReceivers receivers = source.getAdjacentEnergyReceivers();
+        if (receivers.getCount() > 0) {
+            int receivedEnergy = receivers.insertEnergy(energyStorage.getEnergyStored(), ENERGY_STORAGE, random.nextInt(6), false);
+            if (receivedEnergy != 0) {
                 modifyEnergyStored(-receivedEnergy);
             }
         }
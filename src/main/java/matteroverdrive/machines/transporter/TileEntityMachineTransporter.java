@@ -66,6 +66,12 @@ public class TileEntityMachineTransporter extends MOTileEntityMachineMatter impl
     public int usbSlotID;
     int transportTimer;
     long transportTracker;
+    /**
+     * The world times of the start and end of the current transport, as last sent to the clients.
+     * On the client they are used to interpolate the transport progress.
+     */
+    long transportStartTime;
+    long transportTargetTime;
     private ComponentComputers computerComponent;
 
     public TileEntityMachineTransporter() {
@@ -90,6 +96,11 @@ public class TileEntityMachineTransporter extends MOTileEntityMachineMatter impl
         if (categories.contains(MachineNBTCategory.CONFIGS)) {
             writeLocations(nbt);
         }
+        if (categories.contains(MachineNBTCategory.DATA) && !toDisk) {
+            //so clients that load the chunk during a transport show its progress
+            nbt.setLong("TransportStartTime", transportStartTime);
+            nbt.setLong("TransportTargetTime", transportTargetTime);
+        }
     }
 
     @Override
@@ -98,6 +109,11 @@ public class TileEntityMachineTransporter extends MOTileEntityMachineMatter impl
         if (categories.contains(MachineNBTCategory.CONFIGS)) {
             readLocations(nbt);
         }
+        if (categories.contains(MachineNBTCategory.DATA) && nbt.hasKey("TransportStartTime")) {
+            //the transport time is interpolated from these on the next client update
+            transportStartTime = nbt.getLong("TransportStartTime");
+            transportTargetTime = nbt.getLong("TransportTargetTime");
+        }
     }
 
     @Override
@@ -177,11 +193,15 @@ public class TileEntityMachineTransporter extends MOTileEntityMachineMatter impl
     }
 
     void manageTeleportation() {
-        List<Entity> entities = worldObj.getEntitiesWithinAABB(Entity.class, AxisAlignedBB.getBoundingBox(xCoord, yCoord, zCoord, xCoord + 1, yCoord + 2, zCoord + 1));
         TransportLocation position = getSelectedLocation();
 
         if (!worldObj.isRemote) {
-            if (getEnergyStorage().getEnergyStored() > getEnergyDrain() && entities.size() > 0 && isLocationValid(getSelectedLocation())) {
+            List<Entity> entities = null;
+            if (getEnergyStorage().getEnergyStored() > getEnergyDrain() && isLocationValid(position)) {
+                entities = MatterOverdrive.tickHandler.getEntityProximityHandler().getEntitiesWithinAABB(worldObj, Entity.class, getTransportArea());
+            }
+
+            if (entities != null && entities.size() > 0) {
                 if (transportTracker < worldObj.getTotalWorldTime()) {
                     transportTimer++;
 
@@ -194,20 +214,17 @@ public class TileEntityMachineTransporter extends MOTileEntityMachineMatter impl
                         energyStorage.modifyEnergyStored(-getEnergyDrain());
 
                         transportTimer = 0;
-                        MatterOverdrive.packetPipeline.sendToDimention(new PacketSyncTransportProgress(this), worldObj);
-                    } else {
-                        MatterOverdrive.packetPipeline.sendToAllAround(new PacketSyncTransportProgress(this), this, TRANSPORT_RANGE);
                     }
                 }
             } else {
-                if (transportTimer != 0) {
-                    transportTimer = 0;
-                    MatterOverdrive.packetPipeline.sendToDimention(new PacketSyncTransportProgress(this), worldObj);
-                }
+                transportTimer = 0;
             }
 
+            syncTransportProgress();
         } else {
+            transportTimer = getInterpolatedTransportTime();
             if (transportTimer > 0) {
+                List<Entity> entities = worldObj.getEntitiesWithinAABB(Entity.class, getTransportArea());
                 for (Entity entity : entities) {
                     SpawnReplicateParticles(entity, new Vector3f((float) entity.posX, yCoord, (float) entity.posZ));
                 }
@@ -220,6 +237,37 @@ public class TileEntityMachineTransporter extends MOTileEntityMachineMatter impl
         }
     }
 
+    private AxisAlignedBB getTransportArea() {
+        return AxisAlignedBB.getBoundingBox(xCoord, yCoord, zCoord, xCoord + 1, yCoord + 2, zCoord + 1);
+    }
+
+    /**
+     * Sends the start and end of the transport to the clients only when they change,
+     * which is when a transport starts, completes or is interrupted.
+     */
+    private void syncTransportProgress() {
+        long startTime = 0;
+        long targetTime = 0;
+        if (transportTimer > 0) {
+            startTime = worldObj.getTotalWorldTime() - transportTimer;
+            targetTime = startTime + getSpeed();
+        }
+
+        if (startTime != transportStartTime || targetTime != transportTargetTime) {
+            transportStartTime = startTime;
+            transportTargetTime = targetTime;
+            MatterOverdrive.packetPipeline.sendToDimention(new PacketSyncTransportProgress(this), worldObj);
+        }
+    }
+
+    private int getInterpolatedTransportTime() {
+        if (transportStartTime <= 0) {
+            return 0;
+        }
+        long time = Math.max(transportStartTime + 1, Math.min(worldObj.getTotalWorldTime(), transportTargetTime));
+        return (int) (time - transportStartTime);
+    }
+
     public void Teleport(Entity entity, TransportLocation position) {
         if (!MinecraftForge.EVENT_BUS.post(new MOEventTransport(new ChunkCoordinates(xCoord, yCoord, zCoord), position, entity))) {
             if (entity instanceof EntityLivingBase) {
@@ -359,6 +407,20 @@ public class TileEntityMachineTransporter extends MOTileEntityMachineMatter impl
         transportTimer = time;
     }
 
+    public void setTransportProgress(long startTime, long targetTime) {
+        this.transportStartTime = startTime;
+        this.transportTargetTime = targetTime;
+        this.transportTimer = getInterpolatedTransportTime();
+    }
+
+    public long getTransportStartTime() {
+        return transportStartTime;
+    }
+
+    public long getTransportTargetTime() {
+        return transportTargetTime;
+    }
+
     public int getTransportTime() {
         return transportTimer;
     }
@@ -7,16 +7,36 @@ import net.minecraft.tileentity.TileEntity;
 import net.minecraft.world.World;
 import net.minecraftforge.common.util.ForgeDirection;
 
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
 
 public abstract class MatterNetworkPacket {
+    private static long nextGeneration = 1;
+
     protected BlockPos senderPos;
     protected NBTTagCompound filter;
-    protected HashSet<MatterNetworkPathNode> path;
+    /**
+     * The generation of the current broadcast pass. Connections the packet passes trough are stamped with it.
+     */
+    protected long generation;
+    /**
+     * The connections of the current pass that don't store network stamps.
+     */
+    private Set<IMatterNetworkConnection> unstampedConnections;
+    /**
+     * Packed positions of the queues that the packet was queued in.
+     * Queues hold packets across ticks, so they can't rely on the stamp alone.
+     */
+    protected long[] queuePath;
+    protected int queuePathSize;
 
 
     public MatterNetworkPacket() {
-        path = new HashSet<>();
+        generation = nextGeneration++;
     }
 
     public MatterNetworkPacket(BlockPos senderPos, ForgeDirection port) {
@@ -32,16 +52,104 @@ public abstract class MatterNetworkPacket {
         this.filter = filter;
     }
 
+    /**
+     * Marks the packet as queued in the given connection, so it will never be queued there again.
+     *
+     * @param connection  the queue connection.
+     * @param recivedFrom the side the packet came from.
+     * @return the packet.
+     */
     public MatterNetworkPacket addToPath(IMatterNetworkConnection connection, ForgeDirection recivedFrom) {
-        MatterNetworkPathNode node = new MatterNetworkPathNode(connection.getPosition(), recivedFrom.getOpposite());
-        if (!path.contains(node)) {
-            path.add(node);
+        connection.setNetworkStamp(generation);
+        long key = packPosition(connection);
+        if (!queuePathContains(key)) {
+            if (queuePath == null) {
+                queuePath = new long[4];
+            } else if (queuePathSize >= queuePath.length) {
+                queuePath = Arrays.copyOf(queuePath, queuePath.length * 2);
+            }
+            queuePath[queuePathSize++] = key;
         }
         return this;
     }
 
+    /**
+     * Starts a new broadcast pass of the packet.
+     * Connections stamped by previous passes will accept the packet again.
+     */
+    public void beginBroadcast() {
+        generation = nextGeneration++;
+        if (unstampedConnections != null) {
+            unstampedConnections.clear();
+        }
+    }
+
+    /**
+     * Marks the connection as visited by this packet's broadcast.
+     *
+     * @param connection the connection the packet passed trough.
+     */
+    public void stamp(IMatterNetworkConnection connection) {
+        connection.setNetworkStamp(generation);
+        if (connection.getNetworkStamp() != generation) {
+            if (unstampedConnections == null) {
+                unstampedConnections = Collections.newSetFromMap(new IdentityHashMap<>());
+            }
+            unstampedConnections.add(connection);
+        }
+    }
+
     public boolean hasPassedTrough(IMatterNetworkConnection connection) {
-        return path.contains(new MatterNetworkPathNode(connection.getPosition()));
+        if (connection.getNetworkStamp() == generation) {
+            return true;
+        }
+        if (unstampedConnections != null && unstampedConnections.contains(connection)) {
+            return true;
+        }
+        return queuePathSize > 0 && queuePathContains(packPosition(connection));
+    }
+
+    private boolean queuePathContains(long key) {
+        for (int i = 0; i < queuePathSize; i++) {
+            if (queuePath[i] == key) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Builds the route of the queues the packet has passed trough.
+     * This is only meant for callers that need the route, as it allocates the nodes.
+     *
+     * @return the queues the packet was queued in, in order.
+     */
+    public List<MatterNetworkPathNode> getPath() {
+        List<MatterNetworkPathNode> path = new ArrayList<>(queuePathSize);
+        for (int i = 0; i < queuePathSize; i++) {
+            path.add(new MatterNetworkPathNode(unpackPosition(queuePath[i])));
+        }
+        return path;
+    }
+
+    private static long packPosition(IMatterNetworkConnection connection) {
+        if (connection instanceof TileEntity) {
+            TileEntity tileEntity = (TileEntity) connection;
+            return packPosition(tileEntity.xCoord, tileEntity.yCoord, tileEntity.zCoord);
+        }
+        BlockPos position = connection.getPosition();
+        return packPosition(position.x, position.y, position.z);
+    }
+
+    private static long packPosition(int x, int y, int z) {
+        return ((long) (x & 0x3FFFFFF) << 38) | ((long) (z & 0x3FFFFFF) << 12) | (y & 0xFFF);
+    }
+
+    private static BlockPos unpackPosition(long key) {
+        int x = (int) (key >> 38);
+        int z = (int) (key << 26 >> 38);
+        int y = (int) (key & 0xFFF);
+        return new BlockPos(x, y, z);
     }
 
     public IMatterNetworkConnection getSender(World world) {
@@ -17,9 +17,9 @@ public class MatterNetworkPacketQueue<T extends MatterNetworkPacket> extends Mat
     }
 
     public void tickAllAlive(World world, boolean alive) {
-        for (int i = 0; i < elements.size(); i++) {
-            if (elements.get(i).isValid(world)) {
-                elements.get(i).tickAlive(world, alive);
+        for (int i = 0; i < size(); i++) {
+            if (getAt(i).isValid(world)) {
+                getAt(i).tickAlive(world, alive);
             }
         }
     }
@@ -49,12 +49,14 @@ public class MatterNetworkPacketQueue<T extends MatterNetworkPacket> extends Mat
     }
 
     @Override
-    protected Class getElementClassFromNBT(NBTTagCompound tagCompound) {
-        return MatterNetworkRegistry.getPacketClass(tagCompound.getInteger("Type"));
+    @SuppressWarnings("unchecked")
+    protected T createElementFromNBT(NBTTagCompound tagCompound) {
+        return (T) MatterNetworkRegistry.createPacket(tagCompound.getInteger("Type"));
     }
 
     @Override
-    protected Class getElementClassFromBuffer(ByteBuf byteBuf) {
-        return MatterNetworkRegistry.getPacketClass(byteBuf.readInt());
+    @SuppressWarnings("unchecked")
+    protected T createElementFromBuffer(ByteBuf byteBuf) {
+        return (T) MatterNetworkRegistry.createPacket(byteBuf.readInt());
     }
 }
@@ -1,126 +1,170 @@
 package matteroverdrive.matter_network;
 
 import io.netty.buffer.ByteBuf;
-import matteroverdrive.MatterOverdrive;
 import matteroverdrive.api.network.IMatterNetworkConnection;
 import matteroverdrive.util.MOLog;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
 import org.apache.logging.log4j.Level;
 
-import java.util.ArrayList;
-import java.util.List;
-
+/**
+ * A bounded FIFO queue backed by a ring buffer.
+ * Queueing, dequeuing and peeking are constant time. Elements queued while the queue is full are dropped and counted.
+ *
+ * @param <T> the type of the elements.
+ */
 public abstract class MatterNetworkQueue<T> {
     private IMatterNetworkConnection connection;
-    protected List<T> elements;
+    private Object[] elements;
+    private int head;
+    private int size;
+    private long dropCount;
     int capacity = 0;
     String name;
 
     public MatterNetworkQueue(String name, IMatterNetworkConnection connection, int capacity) {
         this.name = name;
         this.connection = connection;
-        elements = new ArrayList<>(capacity);
+        this.elements = new Object[Math.max(capacity, 1)];
         this.capacity = capacity;
     }
 
+    /**
+     * Adds the element at the end of the queue.
+     *
+     * @param element the element.
+     * @return was the element added. If the queue is full the element is dropped.
+     */
     public boolean queue(T element) {
-        if (elements.size() > 0) {
-            try {
-                elements.add(elements.size(), element);
-                return true;
-            } catch (Exception e) {
-                MOLog.error("Could not add element to queue", e);
-                return false;
-            }
-        } else {
-            return elements.add(element);
+        if (size >= capacity) {
+            dropCount++;
+            MOLog.debug("%s queue of %s is full (%s), dropped %s", name, connection, capacity, element);
+            return false;
         }
 
+        elements[index(size)] = element;
+        size++;
+        return true;
     }
 
     public T dropAt(int i) {
-        if (i < elements.size()) {
-            return elements.remove(i);
+        if (i >= 0 && i < size) {
+            T element = elementAt(i);
+            //shift the elements after the dropped one
+            for (int j = i; j < size - 1; j++) {
+                elements[index(j)] = elements[index(j + 1)];
+            }
+            elements[index(size - 1)] = null;
+            size--;
+            return element;
         }
         return null;
     }
 
     public T dequeue() {
-        if (elements.size() > 0) {
-            return elements.remove(0);
+        if (size > 0) {
+            T element = elementAt(0);
+            elements[head] = null;
+            head = (head + 1) % elements.length;
+            size--;
+            return element;
         }
         return null;
     }
 
     public T peek() {
-        if (elements.size() > 0) {
-            return elements.get(0);
+        if (size > 0) {
+            return elementAt(0);
         }
         return null;
     }
 
     public int getLastIndex() {
-        if (elements.size() > 0) {
-            return elements.size() - 1;
-        }
-        return -1;
+        return size - 1;
     }
 
     public T getAt(int i) {
-        if (i >= 0 && i < elements.size()) {
-            return elements.get(i);
+        if (i >= 0 && i < size) {
+            return elementAt(i);
         }
         return null;
     }
 
     public void clear() {
-        elements.clear();
+        for (int i = 0; i < size; i++) {
+            elements[index(i)] = null;
+        }
+        head = 0;
+        size = 0;
     }
 
-    public boolean remove(T task) {
-        return elements.remove(task);
+    public boolean remove(T element) {
+        for (int i = 0; i < size; i++) {
+            if (elementAt(i).equals(element)) {
+                dropAt(i);
+                return true;
+            }
+        }
+        return false;
     }
 
     public int size() {
-        return elements.size();
+        return size;
     }
 
     public int remaintingCapacity() {
-        return capacity - elements.size();
+        return capacity - size;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * @return how many elements were dropped because the queue was full.
+     */
+    public long getDropCount() {
+        return dropCount;
+    }
+
+    private int index(int i) {
+        return (head + i) % elements.length;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T elementAt(int i) {
+        return (T) elements[index(i)];
     }
 
     public void readFromNBT(NBTTagCompound tagCompound) {
         if (tagCompound == null)
             return;
 
-        elements.clear();
+        clear();
         NBTTagList tagList = tagCompound.getTagList(name, 10);
         for (int i = 0; i < tagList.tagCount(); i++) {
-            try {
-                T element = (T) getElementClassFromNBT(tagList.getCompoundTagAt(i)).newInstance();
-                readElementFromNBT(tagList.getCompoundTagAt(i), element);
-                elements.add(element);
-            } catch (InstantiationException e) {
-                MOLog.log(Level.ERROR, e, "There was a problem while loading a packet of type %s", getElementClassFromNBT(tagList.getCompoundTagAt(i)));
-            } catch (IllegalAccessException e) {
-                MOLog.log(Level.ERROR, e, "There was a problem while loading a packet of type %s", getElementClassFromNBT(tagList.getCompoundTagAt(i)));
+            NBTTagCompound elementNBT = tagList.getCompoundTagAt(i);
+            T element = createElementFromNBT(elementNBT);
+            if (element != null) {
+                readElementFromNBT(elementNBT, element);
+                queue(element);
+            } else {
+                MOLog.log(Level.ERROR, "There was a problem while loading an element of the %s queue", name);
             }
         }
     }
 
     public void readFromBuffer(ByteBuf byteBuf) {
-        elements.clear();
+        clear();
         int elementsCount = byteBuf.readInt();
         for (int i = 0; i < elementsCount; i++) {
-            try {
-                T element = (T) getElementClassFromBuffer(byteBuf).newInstance();
+            T element = createElementFromBuffer(byteBuf);
+            if (element != null) {
                 readElementFromBuffer(byteBuf, element);
-                elements.add(element);
-            } catch (InstantiationException e) {
-                MOLog.log(Level.ERROR, e, "There was a problem while loading a packet of type %s", getElementClassFromBuffer(byteBuf));
-            } catch (IllegalAccessException e) {
-                MOLog.log(Level.ERROR, e, "There was a problem while loading a packet of type %s", getElementClassFromBuffer(byteBuf));
+                queue(element);
+            } else {
+                MOLog.log(Level.ERROR, "There was a problem while loading an element of the %s queue", name);
+                return;
             }
         }
     }
@@ -133,24 +177,36 @@ public abstract class MatterNetworkQueue<T> {
 
     protected abstract void writeElementToBuffer(ByteBuf byteBuf, T element);
 
-    protected abstract Class getElementClassFromNBT(NBTTagCompound tagCompound);
-
-    protected abstract Class getElementClassFromBuffer(ByteBuf byteBuf);
+    /**
+     * Creates an empty element of the type stored in the NBT, using the factories in {@link MatterNetworkRegistry}.
+     *
+     * @param tagCompound the element NBT.
+     * @return the new element or null if the type is unknown.
+     */
+    protected abstract T createElementFromNBT(NBTTagCompound tagCompound);
+
+    /**
+     * Creates an empty element of the type read from the buffer, using the factories in {@link MatterNetworkRegistry}.
+     *
+     * @param byteBuf the buffer.
+     * @return the new element or null if the type is unknown.
+     */
+    protected abstract T createElementFromBuffer(ByteBuf byteBuf);
 
     public void writeToNBT(NBTTagCompound tagCompound) {
         NBTTagList taskList = new NBTTagList();
-        for (T element : elements) {
+        for (int i = 0; i < size; i++) {
             NBTTagCompound taskNBT = new NBTTagCompound();
-            writeElementToNBT(taskNBT, element);
+            writeElementToNBT(taskNBT, elementAt(i));
             taskList.appendTag(taskNBT);
         }
         tagCompound.setTag(name, taskList);
     }
 
     public void writeToBuffer(ByteBuf byteBuf) {
-        byteBuf.writeInt(elements.size());
-        for (T element : elements) {
-            writeElementToBuffer(byteBuf, element);
+        byteBuf.writeInt(size);
+        for (int i = 0; i < size; i++) {
+            writeElementToBuffer(byteBuf, elementAt(i));
         }
     }
 
@@ -8,50 +8,110 @@ import matteroverdrive.matter_network.packets.MatterNetworkResponsePacket;
 import matteroverdrive.matter_network.tasks.MatterNetworkTaskReplicatePattern;
 import matteroverdrive.matter_network.tasks.MatterNetworkTaskStorePattern;
 
+import matteroverdrive.util.MOLog;
+import org.apache.logging.log4j.Level;
+
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.function.Supplier;
 
 public class MatterNetworkRegistry {
     public static List<Class> packetTypes = new ArrayList<>();
     public static List<Class> taskTypes = new ArrayList<>();
+    private static List<Supplier<? extends MatterNetworkPacket>> packetFactories = new ArrayList<>();
+    private static List<Supplier<? extends MatterNetworkTask>> taskFactories = new ArrayList<>();
+    private static Map<Class, Integer> packetIDs = new HashMap<>();
+    private static Map<Class, Integer> taskIDs = new HashMap<>();
 
     public static int registerPacket(Class<? extends MatterNetworkPacket> packetClass) {
+        return registerPacket(packetClass, reflectionFactory(packetClass));
+    }
+
+    public static int registerPacket(Class<? extends MatterNetworkPacket> packetClass, Supplier<? extends MatterNetworkPacket> factory) {
         packetTypes.add(packetClass);
+        packetFactories.add(factory);
+        packetIDs.put(packetClass, packetTypes.size() - 1);
         return packetTypes.size() - 1;
     }
 
     public static int registerTask(Class<? extends MatterNetworkTask> taskClass) {
+        return registerTask(taskClass, reflectionFactory(taskClass));
+    }
+
+    public static int registerTask(Class<? extends MatterNetworkTask> taskClass, Supplier<? extends MatterNetworkTask> factory) {
         taskTypes.add(taskClass);
-        return packetTypes.size() - 1;
+        taskFactories.add(factory);
+        taskIDs.put(taskClass, taskTypes.size() - 1);
+        return taskTypes.size() - 1;
     }
 
     public static void register() {
-        registerPacket(MatterNetworkTaskPacket.class);
-        registerPacket(MatterNetworkRequestPacket.class);
-        registerPacket(MatterNetworkBroadcastPacket.class);
-        registerPacket(MatterNetworkResponsePacket.class);
+        registerPacket(MatterNetworkTaskPacket.class, MatterNetworkTaskPacket::new);
+        registerPacket(MatterNetworkRequestPacket.class, MatterNetworkRequestPacket::new);
+        registerPacket(MatterNetworkBroadcastPacket.class, MatterNetworkBroadcastPacket::new);
+        registerPacket(MatterNetworkResponsePacket.class, MatterNetworkResponsePacket::new);
+
+        registerTask(MatterNetworkTaskReplicatePattern.class, MatterNetworkTaskReplicatePattern::new);
+        registerTask(MatterNetworkTaskStorePattern.class, MatterNetworkTaskStorePattern::new);
+    }
 
-        registerTask(MatterNetworkTaskReplicatePattern.class);
-        registerTask(MatterNetworkTaskStorePattern.class);
+    /**
+     * Used for types registered without a factory.
+     */
+    private static <T> Supplier<T> reflectionFactory(Class<? extends T> type) {
+        return () -> {
+            try {
+                return type.newInstance();
+            } catch (InstantiationException | IllegalAccessException e) {
+                MOLog.log(Level.ERROR, e, "There was a problem while creating a matter network element of type %s", type);
+                return null;
+            }
+        };
     }
 
     public static int getPacketID(Class<? extends MatterNetworkPacket> type) throws NoSuchElementException {
-        for (int i = 0; i < packetTypes.size(); i++) {
-            if (type.equals(packetTypes.get(i)))
-                return i;
-        }
+        Integer id = packetIDs.get(type);
+        if (id != null)
+            return id;
         throw new NoSuchElementException(String.format("Packet %s was not registered", type));
     }
 
     public static int getTaskID(Class<? extends MatterNetworkTask> type) throws NoSuchElementException {
-        for (int i = 0; i < taskTypes.size(); i++) {
-            if (type.equals(taskTypes.get(i)))
-                return i;
-        }
+        Integer id = taskIDs.get(type);
+        if (id != null)
+            return id;
         throw new NoSuchElementException(String.format("Task %s was not registered", type));
     }
 
+    /**
+     * Creates a new empty packet of the registered type.
+     *
+     * @param id the packet type ID.
+     * @return the new packet, or null if there is no such type.
+     */
+    public static MatterNetworkPacket createPacket(int id) {
+        if (id >= 0 && id < packetFactories.size()) {
+            return packetFactories.get(id).get();
+        }
+        return null;
+    }
+
+    /**
+     * Creates a new empty task of the registered type.
+     *
+     * @param id the task type ID.
+     * @return the new task, or null if there is no such type.
+     */
+    public static MatterNetworkTask createTask(int id) {
+        if (id >= 0 && id < taskFactories.size()) {
+            return taskFactories.get(id).get();
+        }
+        return null;
+    }
+
     public static Class getPacketClass(int id) {
         return packetTypes.get(id);
     }
@@ -0,0 +1,423 @@
+package matteroverdrive.matter_network;
+
+import matteroverdrive.api.inventory.UpgradeTypes;
+import matteroverdrive.api.network.IMatterNetworkDispatcher;
+import matteroverdrive.api.network.MatterNetworkTaskState;
+import matteroverdrive.data.BlockPos;
+import matteroverdrive.matter_network.tasks.MatterNetworkTaskReplicatePattern;
+import matteroverdrive.tile.TileEntityMachineReplicator;
+import matteroverdrive.util.MatterHelper;
+import matteroverdrive.util.MatterNetworkHelper;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.world.World;
+import net.minecraftforge.common.util.ForgeDirection;
+
+import java.util.*;
+
+/**
+ * Schedules the replication tasks of a dispatcher (the Pattern Monitor) over all the Replicators it knows on the network.
+ * Instead of flooding one task at a time and letting the first Replicator take it, tasks are sent to a specific Replicator
+ * using a position filter. Large orders are split between free Replicators, and free Replicators steal half of the
+ * remaining copies from the busiest Replicator once there are no more pending tasks.
+ * A Replicator is only given a task if its stored matter covers at least one copy, as it is refilled from the network while replicating.
+ */
+public class MatterNetworkReplicationScheduler {
+    /**
+     * How many copies a Replicator must have left before others are allowed to steal from it.
+     */
+    public static final int MIN_STEAL_COUNT = 2;
+    /**
+     * The window in ticks over which the throughput is measured.
+     */
+    public static final int THROUGHPUT_WINDOW = 1200;
+
+    private final IMatterNetworkDispatcher<MatterNetworkTaskReplicatePattern> dispatcher;
+    private final Set<BlockPos> replicators;
+    private final Map<BlockPos, Assignment> assignments;
+    private final Map<BlockPos, ReplicatorSnapshot> snapshots;
+
+    //region Statistics
+    private long totalCompleted;
+    private int windowCompleted;
+    private long windowStart = -1;
+    private float copiesPerMinute;
+    private int busyReplicators;
+    private int pendingCopies;
+    /**
+     * The Replicator count received by the client, as the client does not know the Replicators themselves.
+     */
+    private int syncedReplicatorCount;
+    private boolean statsChanged;
+    //endregion
+
+    public MatterNetworkReplicationScheduler(IMatterNetworkDispatcher<MatterNetworkTaskReplicatePattern> dispatcher) {
+        this.dispatcher = dispatcher;
+        this.replicators = new HashSet<>();
+        this.assignments = new HashMap<>();
+        this.snapshots = new HashMap<>();
+    }
+
+    /**
+     * Dispatches the pending tasks of the dispatcher to the known Replicators.
+     *
+     * @param world        the world of the dispatcher.
+     * @param waitingDelay how long to wait for a Replicator to accept a task before sending it elsewhere.
+     * @return the number of broadcasts made.
+     */
+    public int schedule(World world, int waitingDelay) {
+        MatterNetworkTaskQueue<MatterNetworkTaskReplicatePattern> taskQueue = dispatcher.getTaskQueue(0);
+        long lastCompleted = totalCompleted;
+        int lastBusy = busyReplicators;
+        int lastPending = pendingCopies;
+        int lastReplicators = replicators.size();
+        float lastCopiesPerMinute = copiesPerMinute;
+        List<ReplicatorLoad> free = new ArrayList<>();
+        List<ReplicatorLoad> busy = new ArrayList<>();
+        gatherLoads(world, waitingDelay, free, busy);
+
+        int broadcasts = 0;
+        for (int i = 0; i < free.size(); i++) {
+            ReplicatorLoad load = free.get(i);
+            MatterNetworkTaskReplicatePattern task = getNextPending(taskQueue, load);
+            if (task != null) {
+                int candidates = countCandidates(free, i, getMatterCost(task));
+                int share = (task.getPattern().getCount() + candidates - 1) / candidates;
+                if (share < task.getPattern().getCount() && taskQueue.remaintingCapacity() > 0) {
+                    task = split(task, share);
+                    taskQueue.queue(task);
+                }
+            } else {
+                if (taskQueue.remaintingCapacity() <= 0) {
+                    break;
+                }
+                task = steal(busy, load);
+                if (task == null) {
+                    //this Replicator cannot afford any of the work, the next ones might
+                    continue;
+                }
+                taskQueue.queue(task);
+            }
+            broadcasts += dispatch(world, task, load.replicator);
+        }
+
+        pendingCopies = 0;
+        for (int i = 0; i < taskQueue.size(); i++) {
+            if (taskQueue.getAt(i).getState().below(MatterNetworkTaskState.PROCESSING)) {
+                pendingCopies += taskQueue.getAt(i).getPattern().getCount();
+            }
+        }
+        statsChanged = broadcasts > 0
+                || lastCompleted != totalCompleted
+                || lastBusy != busyReplicators
+                || lastPending != pendingCopies
+                || lastReplicators != replicators.size()
+                || lastCopiesPerMinute != copiesPerMinute;
+        return broadcasts;
+    }
+
+    /**
+     * Removes all the tasks that were accepted or finished by a Replicator from the dispatcher's queue.
+     *
+     * @return were any tasks removed.
+     */
+    public boolean pruneAccepted() {
+        boolean removed = false;
+        MatterNetworkTaskQueue<MatterNetworkTaskReplicatePattern> taskQueue = dispatcher.getTaskQueue(0);
+        for (int i = taskQueue.size() - 1; i >= 0; i--) {
+            MatterNetworkTaskState state = taskQueue.getAt(i).getState();
+            if (state == MatterNetworkTaskState.FINISHED || state == MatterNetworkTaskState.PROCESSING) {
+                taskQueue.dropAt(i);
+                removed = true;
+            }
+        }
+        return removed;
+    }
+
+    private void gatherLoads(World world, int waitingDelay, List<ReplicatorLoad> free, List<ReplicatorLoad> busy) {
+        busyReplicators = 0;
+        Iterator<BlockPos> iterator = replicators.iterator();
+        while (iterator.hasNext()) {
+            BlockPos pos = iterator.next();
+            if (!world.getChunkProvider().chunkExists(pos.x >> 4, pos.z >> 4)) {
+                continue;
+            }
+
+            TileEntity tileEntity = pos.getTileEntity(world);
+            if (!(tileEntity instanceof TileEntityMachineReplicator)) {
+                iterator.remove();
+                assignments.remove(pos);
+                snapshots.remove(pos);
+                continue;
+            }
+
+            TileEntityMachineReplicator replicator = (TileEntityMachineReplicator) tileEntity;
+            MatterNetworkTaskReplicatePattern current = replicator.getTaskQueue(0).peek();
+            boolean reserved = isReserved(world, pos, waitingDelay);
+            trackCompletion(world, pos, current);
+
+            if (current != null) {
+                busyReplicators++;
+                busy.add(new ReplicatorLoad(replicator, current));
+            } else if (replicator.getRedstoneActive() && !reserved) {
+                free.add(new ReplicatorLoad(replicator, null));
+            }
+        }
+
+        Collections.sort(free);
+        Collections.sort(busy, new Comparator<ReplicatorLoad>() {
+            @Override
+            public int compare(ReplicatorLoad o1, ReplicatorLoad o2) {
+                return Integer.compare(o2.task.getPattern().getCount(), o1.task.getPattern().getCount());
+            }
+        });
+    }
+
+    private boolean isReserved(World world, BlockPos pos, int waitingDelay) {
+        Assignment assignment = assignments.get(pos);
+        if (assignment != null) {
+            if (assignment.task.getState().below(MatterNetworkTaskState.PROCESSING)
+                    && assignment.task.getState() != MatterNetworkTaskState.INVALID
+                    && world.getTotalWorldTime() - assignment.time < waitingDelay) {
+                return true;
+            }
+            assignments.remove(pos);
+        }
+        return false;
+    }
+
+    private MatterNetworkTaskReplicatePattern getNextPending(MatterNetworkTaskQueue<MatterNetworkTaskReplicatePattern> taskQueue, ReplicatorLoad load) {
+        for (int i = 0; i < taskQueue.size(); i++) {
+            MatterNetworkTaskReplicatePattern task = taskQueue.getAt(i);
+            if (task.getState().below(MatterNetworkTaskState.PROCESSING) && !task.isAlive() && !isAssigned(task) && load.canAfford(getMatterCost(task))) {
+                return task;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return how many of the free Replicators from the given one on can afford a copy, so the task is only split between those.
+     */
+    private int countCandidates(List<ReplicatorLoad> free, int from, int matterCost) {
+        int candidates = 0;
+        for (int i = from; i < free.size(); i++) {
+            if (free.get(i).canAfford(matterCost)) {
+                candidates++;
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * @return the matter needed for one copy of the task's pattern.
+     */
+    private static int getMatterCost(MatterNetworkTaskReplicatePattern task) {
+        if (task.getPlan() != null) {
+            return task.getPlan().getMatterCost();
+        }
+        return MatterHelper.getMatterAmountFromItem(task.getPattern().toItemStack(false));
+    }
+
+    private boolean isAssigned(MatterNetworkTaskReplicatePattern task) {
+        for (Assignment assignment : assignments.values()) {
+            if (assignment.task == task) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private MatterNetworkTaskReplicatePattern split(MatterNetworkTaskReplicatePattern task, int count) {
+        MatterNetworkTaskReplicatePattern part = new MatterNetworkTaskReplicatePattern(dispatcher, task.getPattern().copy());
+        part.getPattern().setCount(count);
+        part.setState(MatterNetworkTaskState.WAITING);
+        task.getPattern().setCount(task.getPattern().getCount() - count);
+        return part;
+    }
+
+    private MatterNetworkTaskReplicatePattern steal(List<ReplicatorLoad> busy, ReplicatorLoad thief) {
+        for (ReplicatorLoad victim : busy) {
+            int count = victim.task.getPattern().getCount();
+            if (victim.task.getState() == MatterNetworkTaskState.PROCESSING && count >= MIN_STEAL_COUNT && thief.canAfford(getMatterCost(victim.task))) {
+                MatterNetworkTaskReplicatePattern stolen = split(victim.task, count / 2);
+                ReplicatorSnapshot snapshot = snapshots.get(victim.replicator.getPosition());
+                if (snapshot != null) {
+                    snapshot.count = victim.task.getPattern().getCount();
+                }
+                //the victim's task was changed in place, so it has to be saved and sent to its clients again
+                victim.replicator.markDirty();
+                victim.replicator.forceSync();
+                return stolen;
+            }
+        }
+        return null;
+    }
+
+    private int dispatch(World world, MatterNetworkTaskReplicatePattern task, TileEntityMachineReplicator replicator) {
+        int broadcasts = 0;
+        NBTTagCompound filter = MatterNetworkHelper.getFilterFromPositions(replicator.getPosition());
+        for (int i = 0; i < 6; i++) {
+            if (MatterNetworkHelper.broadcastPacketInDirection(world, (byte) 0, task, dispatcher, ForgeDirection.getOrientation(i), filter)) {
+                task.setState(MatterNetworkTaskState.WAITING);
+                broadcasts++;
+            }
+        }
+        if (broadcasts > 0) {
+            assignments.put(replicator.getPosition(), new Assignment(task, world.getTotalWorldTime()));
+        }
+        return broadcasts;
+    }
+
+    private void trackCompletion(World world, BlockPos pos, MatterNetworkTaskReplicatePattern current) {
+        ReplicatorSnapshot snapshot = snapshots.get(pos);
+        int completed = 0;
+        if (snapshot != null) {
+            if (current == snapshot.task) {
+                completed = Math.max(0, snapshot.count - current.getPattern().getCount());
+            } else if (snapshot.task != null && snapshot.task.getState() == MatterNetworkTaskState.FINISHED) {
+                completed = snapshot.count;
+            }
+        }
+
+        if (current != null) {
+            if (snapshot == null) {
+                snapshot = new ReplicatorSnapshot();
+                snapshots.put(pos, snapshot);
+            }
+            snapshot.task = current;
+            snapshot.count = current.getPattern().getCount();
+        } else {
+            snapshots.remove(pos);
+        }
+
+        if (windowStart < 0) {
+            windowStart = world.getTotalWorldTime();
+        }
+        totalCompleted += completed;
+        windowCompleted += completed;
+        long elapsed = world.getTotalWorldTime() - windowStart;
+        if (elapsed >= THROUGHPUT_WINDOW) {
+            copiesPerMinute = windowCompleted * 1200f / elapsed;
+            windowCompleted = 0;
+            windowStart = world.getTotalWorldTime();
+        }
+    }
+
+    //region NBT
+    /**
+     * @param toDisk the live Replicator counts are only sent to clients, as the server gathers them again after loading.
+     */
+    public void writeStatsToNBT(NBTTagCompound nbt, boolean toDisk) {
+        NBTTagCompound stats = new NBTTagCompound();
+        stats.setLong("Completed", totalCompleted);
+        stats.setFloat("CopiesPerMinute", copiesPerMinute);
+        if (!toDisk) {
+            stats.setInteger("Replicators", replicators.size());
+            stats.setInteger("Busy", busyReplicators);
+            stats.setInteger("Pending", pendingCopies);
+        }
+        nbt.setTag("SchedulerStats", stats);
+    }
+
+    public void readStatsFromNBT(NBTTagCompound nbt) {
+        if (nbt.hasKey("SchedulerStats", 10)) {
+            NBTTagCompound stats = nbt.getCompoundTag("SchedulerStats");
+            totalCompleted = stats.getLong("Completed");
+            copiesPerMinute = stats.getFloat("CopiesPerMinute");
+            syncedReplicatorCount = stats.getInteger("Replicators");
+            busyReplicators = stats.getInteger("Busy");
+            pendingCopies = stats.getInteger("Pending");
+        }
+    }
+    //endregion
+
+    //region Getters and Setters
+    public void addReplicator(BlockPos pos) {
+        replicators.add(pos);
+    }
+
+    public void clearReplicators() {
+        replicators.clear();
+        assignments.clear();
+        snapshots.clear();
+    }
+
+    public boolean hasReplicators() {
+        return replicators.size() > 0;
+    }
+
+    public int getReplicatorCount() {
+        return replicators.isEmpty() ? syncedReplicatorCount : replicators.size();
+    }
+
+    /**
+     * @return did the last scheduling pass dispatch tasks or change the statistics.
+     */
+    public boolean hasStatsChanged() {
+        return statsChanged;
+    }
+
+    public int getBusyReplicators() {
+        return busyReplicators;
+    }
+
+    public int getPendingCopies() {
+        return pendingCopies;
+    }
+
+    public long getTotalCompleted() {
+        return totalCompleted;
+    }
+
+    public float getCopiesPerMinute() {
+        return copiesPerMinute;
+    }
+    //endregion
+
+    private static class Assignment {
+        final MatterNetworkTaskReplicatePattern task;
+        final long time;
+
+        Assignment(MatterNetworkTaskReplicatePattern task, long time) {
+            this.task = task;
+            this.time = time;
+        }
+    }
+
+    private static class ReplicatorSnapshot {
+        MatterNetworkTaskReplicatePattern task;
+        int count;
+    }
+
+    /**
+     * Free Replicators are ordered so that the fastest ones get the work first, and those with the most stored matter among equally fast ones.
+     * Only the Replicators that can afford a task are considered for it.
+     */
+    private static class ReplicatorLoad implements Comparable<ReplicatorLoad> {
+        final TileEntityMachineReplicator replicator;
+        final MatterNetworkTaskReplicatePattern task;
+        final double speed;
+        final int matter;
+
+        ReplicatorLoad(TileEntityMachineReplicator replicator, MatterNetworkTaskReplicatePattern task) {
+            this.replicator = replicator;
+            this.task = task;
+            this.speed = replicator.getUpgradeMultiply(UpgradeTypes.Speed);
+            this.matter = replicator.getMatterStored();
+        }
+
+        boolean canAfford(int matterCost) {
+            return matter >= matterCost;
+        }
+
+        @Override
+        public int compareTo(ReplicatorLoad other) {
+            int compare = Double.compare(speed, other.speed);
+            if (compare == 0) {
+                return Integer.compare(other.matter, matter);
+            }
+            return compare;
+        }
+    }
+}
@@ -15,34 +15,34 @@ public class MatterNetworkTaskQueue<T extends MatterNetworkTask> extends MatterN
     }
 
     public void drop() {
-        for (MatterNetworkTask task : elements) {
-            task.setState(MatterNetworkTaskState.INVALID);
+        for (int i = 0; i < size(); i++) {
+            getAt(i).setState(MatterNetworkTaskState.INVALID);
         }
 
-        elements.clear();
+        clear();
     }
 
     public T dropWithID(long id) {
-        for (int i = 0; i < elements.size(); i++) {
-            if (elements.get(i).getId() == id) {
-                return elements.remove(i);
+        for (int i = 0; i < size(); i++) {
+            if (getAt(i).getId() == id) {
+                return dropAt(i);
             }
         }
         return null;
     }
 
     public void tickAllAlive(World world, boolean alive) {
-        for (int i = 0; i < elements.size(); i++) {
-            if (elements.get(i).isValid(world)) {
-                elements.get(i).setAlive(alive);
+        for (int i = 0; i < size(); i++) {
+            if (getAt(i).isValid(world)) {
+                getAt(i).setAlive(alive);
             }
         }
     }
 
     public T getWithID(long id) {
-        for (int i = 0; i < elements.size(); i++) {
-            if (elements.get(i).getId() == id) {
-                return elements.get(i);
+        for (int i = 0; i < size(); i++) {
+            if (getAt(i).getId() == id) {
+                return getAt(i);
             }
         }
         return null;
@@ -73,12 +73,14 @@ public class MatterNetworkTaskQueue<T extends MatterNetworkTask> extends MatterN
     }
 
     @Override
-    protected Class getElementClassFromNBT(NBTTagCompound tagCompound) {
-        return MatterNetworkRegistry.getTaskClass(tagCompound.getInteger("Type"));
+    @SuppressWarnings("unchecked")
+    protected T createElementFromNBT(NBTTagCompound tagCompound) {
+        return (T) MatterNetworkRegistry.createTask(tagCompound.getInteger("Type"));
     }
 
     @Override
-    protected Class getElementClassFromBuffer(ByteBuf byteBuf) {
-        return MatterNetworkRegistry.getTaskClass(byteBuf.readInt());
+    @SuppressWarnings("unchecked")
+    protected T createElementFromBuffer(ByteBuf byteBuf) {
+        return (T) MatterNetworkRegistry.createTask(byteBuf.readInt());
     }
 }
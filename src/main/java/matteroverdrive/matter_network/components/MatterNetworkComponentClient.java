@@ -44,9 +44,10 @@ public abstract class MatterNetworkComponentClient<T extends MOTileEntityMachine
     @Override
     public void queuePacket(MatterNetworkPacket packet, ForgeDirection from) {
         if (canPreform(packet) && packet.isValid(getWorldObj())) {
-            getPacketQueue(0).queue(packet);
-            packet.tickAlive(getWorldObj(), true);
-            packet.onAddedToQueue(getWorldObj(), getPacketQueue(0), 0);
+            if (getPacketQueue(0).queue(packet)) {
+                packet.tickAlive(getWorldObj(), true);
+                packet.onAddedToQueue(getWorldObj(), getPacketQueue(0), 0);
+            }
         }
     }
 
@@ -104,6 +105,16 @@ public abstract class MatterNetworkComponentClient<T extends MOTileEntityMachine
         return rootClient.canConnectFromSide(side);
     }
 
+    @Override
+    public long getNetworkStamp() {
+        return rootClient.getNetworkStamp();
+    }
+
+    @Override
+    public void setNetworkStamp(long stamp) {
+        rootClient.setNetworkStamp(stamp);
+    }
+
     @Override
     public MatterNetworkPacketQueue<MatterNetworkPacket> getPacketQueue(int queueID) {
         return packetQueue;
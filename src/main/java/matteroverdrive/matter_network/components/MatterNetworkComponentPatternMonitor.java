@@ -4,15 +4,19 @@ import cpw.mods.fml.common.gameevent.TickEvent;
 import matteroverdrive.MatterOverdrive;
 import matteroverdrive.Reference;
 import matteroverdrive.api.matter.IMatterDatabase;
+import matteroverdrive.api.network.IMatterNetworkConnection;
 import matteroverdrive.api.network.MatterNetworkTaskState;
 import matteroverdrive.data.BlockPos;
 import matteroverdrive.data.ItemPattern;
 import matteroverdrive.matter_network.MatterNetworkPacket;
+import matteroverdrive.matter_network.MatterNetworkReplicationScheduler;
+import matteroverdrive.matter_network.packets.MatterNetworkBroadcastPacket;
 import matteroverdrive.matter_network.packets.MatterNetworkRequestPacket;
 import matteroverdrive.matter_network.packets.MatterNetworkResponsePacket;
 import matteroverdrive.matter_network.tasks.MatterNetworkTaskReplicatePattern;
 import matteroverdrive.network.packet.client.PacketPatternMonitorSync;
 import matteroverdrive.tile.TileEntityMachinePatternMonitor;
+import matteroverdrive.tile.TileEntityMachineReplicator;
 import matteroverdrive.util.MatterNetworkHelper;
 import matteroverdrive.util.TimeTracker;
 import net.minecraft.world.World;
@@ -22,13 +26,17 @@ import java.util.List;
 
 public class MatterNetworkComponentPatternMonitor extends MatterNetworkComponentClient<TileEntityMachinePatternMonitor> {
     private TimeTracker broadcastTracker;
+    private TimeTracker scheduleTracker;
     TimeTracker validateTracker;
     private boolean needsSearchRefresh = true;
+    private final MatterNetworkReplicationScheduler scheduler;
 
     public MatterNetworkComponentPatternMonitor(TileEntityMachinePatternMonitor patternMonitor) {
         super(patternMonitor);
         broadcastTracker = new TimeTracker();
+        scheduleTracker = new TimeTracker();
         validateTracker = new TimeTracker();
+        scheduler = new MatterNetworkReplicationScheduler(patternMonitor);
         handlers.add(BASIC_CONNECTIONS_HANDLER);
     }
 
@@ -38,18 +46,33 @@ public class MatterNetworkComponentPatternMonitor extends MatterNetworkComponent
 
         if (packet instanceof MatterNetworkResponsePacket) {
             executeResponses((MatterNetworkResponsePacket) packet);
+        } else if (packet instanceof MatterNetworkBroadcastPacket) {
+            executeBroadcasts((MatterNetworkBroadcastPacket) packet);
         }
     }
 
     protected void executeResponses(MatterNetworkResponsePacket packet) {
         if (packet.fits(Reference.PACKET_RESPONCE_VALID, Reference.PACKET_REQUEST_CONNECTION)) {
-            if (!rootClient.getDatabases().contains(packet.getSender(getWorldObj()).getPosition())) {
-                rootClient.getDatabases().add(packet.getSender(rootClient.getWorldObj()).getPosition());
+            IMatterNetworkConnection sender = packet.getSender(getWorldObj());
+            if (sender instanceof TileEntityMachineReplicator) {
+                scheduler.addReplicator(sender.getPosition());
+            } else if (sender != null && !rootClient.getDatabases().contains(sender.getPosition())) {
+                rootClient.getDatabases().add(sender.getPosition());
                 rootClient.SyncDatabasesWithClient();
             }
         }
     }
 
+    protected void executeBroadcasts(MatterNetworkBroadcastPacket packet) {
+        //newly placed Replicators announce themselves, so they can be scheduled without a full search
+        if (packet.getBroadcastType() == Reference.PACKET_BROADCAST_CONNECTION) {
+            IMatterNetworkConnection sender = packet.getSender(getWorldObj());
+            if (sender instanceof TileEntityMachineReplicator) {
+                scheduler.addReplicator(sender.getPosition());
+            }
+        }
+    }
+
     @Override
     public int onNetworkTick(World world, TickEvent.Phase phase) {
         int broadcasts = super.onNetworkTick(world, phase);
@@ -62,11 +85,14 @@ public class MatterNetworkComponentPatternMonitor extends MatterNetworkComponent
         if (phase.equals(TickEvent.Phase.END)) {
             if (needsSearchRefresh) {
                 rootClient.getDatabases().clear();
+                scheduler.clearReplicators();
                 MatterOverdrive.packetPipeline.sendToAllAround(new PacketPatternMonitorSync(rootClient), rootClient, 64);
 
                 for (int i = 0; i < 6; i++) {
                     MatterNetworkRequestPacket packet = new MatterNetworkRequestPacket(rootClient, Reference.PACKET_REQUEST_CONNECTION, ForgeDirection.getOrientation(i), rootClient.getFilter(), IMatterDatabase.class);
                     MatterNetworkHelper.broadcastPacketInDirection(world, packet, rootClient, ForgeDirection.getOrientation(i));
+                    MatterNetworkRequestPacket replicatorPacket = new MatterNetworkRequestPacket(rootClient, Reference.PACKET_REQUEST_CONNECTION, ForgeDirection.getOrientation(i), rootClient.getFilter(), TileEntityMachineReplicator.class);
+                    MatterNetworkHelper.broadcastPacketInDirection(world, replicatorPacket, rootClient, ForgeDirection.getOrientation(i));
                 }
                 needsSearchRefresh = false;
             }
@@ -92,21 +118,28 @@ public class MatterNetworkComponentPatternMonitor extends MatterNetworkComponent
     private int manageTaskBroadcast(World world, TickEvent.Phase phase) {
         if (phase.equals(TickEvent.Phase.START)) {
             int broadcastCount = 0;
-            MatterNetworkTaskReplicatePattern task = rootClient.getTaskQueue(0).peek();
-
-            if (task != null) {
-                if (task.getState() == MatterNetworkTaskState.FINISHED || task.getState() == MatterNetworkTaskState.PROCESSING) {
-                    rootClient.getTaskQueue(0).dequeue();
-                    rootClient.forceSync();
-                } else {
-                    if (!task.isAlive() && broadcastTracker.hasDelayPassed(world, TileEntityMachinePatternMonitor.BROADCAST_WEATING_DELAY)) {
-                        for (int i = 0; i < 6; i++) {
-                            if (MatterNetworkHelper.broadcastPacketInDirection(world, (byte) 0, task, rootClient, ForgeDirection.getOrientation(i), rootClient.getFilter())) {
-                                task.setState(MatterNetworkTaskState.WAITING);
-                                broadcastCount++;
-                            }
 
+            if (scheduler.pruneAccepted()) {
+                rootClient.forceSync();
+            }
+
+            if (scheduler.hasReplicators()) {
+                if (scheduleTracker.hasDelayPassed(world, TileEntityMachinePatternMonitor.SCHEDULE_DELAY)) {
+                    broadcastCount += scheduler.schedule(world, TileEntityMachinePatternMonitor.BROADCAST_WEATING_DELAY);
+                    if (scheduler.hasStatsChanged()) {
+                        rootClient.forceSync();
+                    }
+                }
+            } else {
+                //no known Replicators, so flood the top task and let the first free Replicator take it
+                MatterNetworkTaskReplicatePattern task = rootClient.getTaskQueue(0).peek();
+                if (task != null && !task.isAlive() && broadcastTracker.hasDelayPassed(world, TileEntityMachinePatternMonitor.BROADCAST_WEATING_DELAY)) {
+                    for (int i = 0; i < 6; i++) {
+                        if (MatterNetworkHelper.broadcastPacketInDirection(world, (byte) 0, task, rootClient, ForgeDirection.getOrientation(i), rootClient.getFilter())) {
+                            task.setState(MatterNetworkTaskState.WAITING);
+                            broadcastCount++;
                         }
+
                     }
                 }
             }
@@ -117,14 +150,27 @@ public class MatterNetworkComponentPatternMonitor extends MatterNetworkComponent
         return 0;
     }
 
-    public void queuePatternRequest(List<ItemPattern> patternRequests) {
+    /**
+     * @param patternRequests the patterns to replicate.
+     * @return how many of the requests were dropped, because the task queue is full.
+     */
+    public int queuePatternRequest(List<ItemPattern> patternRequests) {
+        int dropped = 0;
         for (int i = 0; i < patternRequests.size(); i++) {
             MatterNetworkTaskReplicatePattern task = new MatterNetworkTaskReplicatePattern(rootClient, patternRequests.get(i));
             task.setState(MatterNetworkTaskState.WAITING);
-            if (rootClient.getTaskQueue(0).queue(task)) ;
+            if (!rootClient.getTaskQueue(0).queue(task)) {
+                dropped = patternRequests.size() - i;
+                break;
+            }
         }
 
         rootClient.forceSync();
+        return dropped;
+    }
+
+    public MatterNetworkReplicationScheduler getScheduler() {
+        return scheduler;
     }
 
     public boolean getNeedsSearchRefresh() {
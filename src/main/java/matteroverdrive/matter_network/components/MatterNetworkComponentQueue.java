@@ -3,15 +3,18 @@ package matteroverdrive.matter_network.components;
 import cpw.mods.fml.common.gameevent.TickEvent;
 import matteroverdrive.MatterOverdrive;
 import matteroverdrive.matter_network.MatterNetworkPacket;
+import matteroverdrive.matter_network.MatterNetworkPacketQueue;
 import matteroverdrive.network.packet.client.PacketSendQueueFlash;
 import matteroverdrive.tile.TileEntityMachinePacketQueue;
 import matteroverdrive.util.MatterNetworkHelper;
+import matteroverdrive.util.TimeTracker;
 import net.minecraft.world.World;
 import net.minecraftforge.common.util.ForgeDirection;
 
 public class MatterNetworkComponentQueue extends MatterNetworkComponentClient<TileEntityMachinePacketQueue> {
 
     public static int[] directions = {0, 1, 2, 3, 4, 5};
+    private final TimeTracker flashTracker = new TimeTracker();
 
     public MatterNetworkComponentQueue(TileEntityMachinePacketQueue queue) {
         super(queue);
@@ -28,7 +31,10 @@ public class MatterNetworkComponentQueue extends MatterNetworkComponentClient<Ti
             if (getPacketQueue(0).queue(packet)) {
                 packet.addToPath(rootClient, from);
                 packet.tickAlive(getWorldObj(), true);
-                MatterOverdrive.packetPipeline.sendToAllAround(new PacketSendQueueFlash(rootClient), rootClient, 32);
+                //the flash lasts longer than the delay, so busy queues still flash continuously
+                if (flashTracker.hasDelayPassed(getWorldObj(), TileEntityMachinePacketQueue.FLASH_DELAY)) {
+                    MatterOverdrive.packetPipeline.sendToAllAround(new PacketSendQueueFlash(rootClient), rootClient, 32);
+                }
             }
         }
     }
@@ -52,13 +58,17 @@ public class MatterNetworkComponentQueue extends MatterNetworkComponentClient<Ti
     public int onNetworkTick(World world, TickEvent.Phase phase) {
         int broadcastCount = 0;
         if (phase == TickEvent.Phase.END) {
+            int packetsPerTick = rootClient.getPacketsPerTick();
             for (int i = 0; i < getPacketQueueCount(); i++) {
-                getPacketQueue(i).tickAllAlive(world, true);
+                MatterNetworkPacketQueue<MatterNetworkPacket> queue = getPacketQueue(i);
+                queue.tickAllAlive(world, true);
 
-                MatterNetworkPacket packet = getPacketQueue(i).dequeue();
-                if (packet != null) {
+                for (int p = 0; p < packetsPerTick && broadcastCount < TileEntityMachinePacketQueue.MAX_BROADCASTS_PER_TICK; p++) {
+                    MatterNetworkPacket packet = queue.dequeue();
+                    if (packet == null) {
+                        break;
+                    }
                     if (packet.isValid(world)) {
-
                         broadcastCount += handlePacketBroadcast(world, packet);
                     }
                 }
@@ -55,6 +55,7 @@ public class MatterNetworkComponentReplicator extends MatterNetworkComponentClie
         if (task instanceof MatterNetworkTaskReplicatePattern) {
             if (rootClient.getTaskQueue(0).queue((MatterNetworkTaskReplicatePattern) task)) {
                 task.setSender(rootClient);
+                rootClient.resolvePlan((MatterNetworkTaskReplicatePattern) task);
                 task.setState(MatterNetworkTaskState.PROCESSING);
                 task.setAlive(true);
                 rootClient.forceSync();
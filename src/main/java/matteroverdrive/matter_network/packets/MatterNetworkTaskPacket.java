@@ -11,8 +11,6 @@ import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.world.World;
 import net.minecraftforge.common.util.ForgeDirection;
 
-import java.util.HashSet;
-
 public class MatterNetworkTaskPacket extends MatterNetworkPacket {
     private long taskID;
     private byte queueID = -1;
@@ -46,8 +44,12 @@ public class MatterNetworkTaskPacket extends MatterNetworkPacket {
 
     public MatterNetworkTaskPacket copy(IMatterNetworkConnection connection) {
         MatterNetworkTaskPacket newPacket = new MatterNetworkTaskPacket(senderPos, taskID, queueID, senderPos.orientation, filter);
-        newPacket.path = new HashSet<>(path);
-        addToPath(connection, ForgeDirection.UNKNOWN);
+        newPacket.generation = generation;
+        if (queuePath != null) {
+            newPacket.queuePath = queuePath.clone();
+            newPacket.queuePathSize = queuePathSize;
+        }
+        newPacket.addToPath(connection, ForgeDirection.UNKNOWN);
         return newPacket;
     }
 
@@ -10,6 +10,10 @@ import net.minecraft.world.World;
 
 public class MatterNetworkTaskReplicatePattern extends MatterNetworkTask {
     ItemPattern pattern;
+    /**
+     * The resolved replication plan. Not saved, it is resolved again by the Replicator when needed.
+     */
+    ReplicationPlan plan;
 
     public MatterNetworkTaskReplicatePattern() {
         super();
@@ -29,6 +33,7 @@ public class MatterNetworkTaskReplicatePattern extends MatterNetworkTask {
 
     @Override
     protected void init() {
+        super.init();
         setUnlocalizedName("replicate_pattern");
     }
 
@@ -60,6 +65,14 @@ public class MatterNetworkTaskReplicatePattern extends MatterNetworkTask {
         return pattern;
     }
 
+    public ReplicationPlan getPlan() {
+        return plan;
+    }
+
+    public void setPlan(ReplicationPlan plan) {
+        this.plan = plan;
+    }
+
     public boolean isValid(World world) {
         if (!super.isValid(world))
             return false;
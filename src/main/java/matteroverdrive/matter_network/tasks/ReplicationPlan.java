@@ -0,0 +1,54 @@
+package matteroverdrive.matter_network.tasks;
+
+import net.minecraft.item.ItemStack;
+
+/**
+ * The resolved cost of replicating one copy of a pattern.
+ * Computed once by the Replicator when it accepts a task, so that the replication tick does not need to
+ * rebuild the output stack and matter values every tick.
+ */
+public class ReplicationPlan {
+    private final ItemStack output;
+    private final int matterCost;
+    private final int time;
+    private final int energyMax;
+    private final int energyPerTick;
+
+    public ReplicationPlan(ItemStack output, int matterCost, int time, int energyMax) {
+        this.output = output;
+        this.matterCost = matterCost;
+        this.time = time;
+        this.energyMax = energyMax;
+        this.energyPerTick = time > 0 ? energyMax / time : energyMax;
+    }
+
+    //region Getters and Setters
+
+    /**
+     * @return a new copy of the output stack, safe to be placed in an inventory.
+     */
+    public ItemStack createOutput() {
+        return output.copy();
+    }
+
+    public ItemStack getOutput() {
+        return output;
+    }
+
+    public int getMatterCost() {
+        return matterCost;
+    }
+
+    public int getTime() {
+        return time;
+    }
+
+    public int getEnergyMax() {
+        return energyMax;
+    }
+
+    public int getEnergyPerTick() {
+        return energyPerTick;
+    }
+    //endregion
+}
@@ -23,15 +23,23 @@ public class MultiBlockTileStructureMachine extends MultiBlockTileStructureAbstr
         return false;
     }
 
-    public void update() {
+    /**
+     * Removes the tiles that are no longer valid, for example because their chunk was unloaded.
+     *
+     * @return were any tiles removed.
+     */
+    public boolean update() {
+        boolean removed = false;
         Iterator<IMultiBlockTile> iterator = tiles.iterator();
         while (iterator.hasNext()) {
             IMultiBlockTile tile = iterator.next();
             if (tile.isMultiblockInvalid()) {
                 tile.setMultiBlockTileStructure(null);
                 iterator.remove();
+                removed = true;
             }
         }
+        return removed;
     }
 
     public void invalidate() {
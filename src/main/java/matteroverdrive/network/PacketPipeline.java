@@ -15,6 +15,7 @@ import matteroverdrive.network.packet.bi.PacketWeaponTick;
 import matteroverdrive.network.packet.client.*;
 import matteroverdrive.network.packet.client.quest.PacketSyncQuests;
 import matteroverdrive.network.packet.client.quest.PacketUpdateQuest;
+import matteroverdrive.network.packet.client.quest.PacketUpdateQuestBatch;
 import matteroverdrive.network.packet.client.starmap.PacketUpdateGalaxy;
 import matteroverdrive.network.packet.client.starmap.PacketUpdatePlanet;
 import matteroverdrive.network.packet.client.starmap.PacketUpdateTravelEvents;
@@ -59,6 +60,7 @@ public class PacketPipeline {
         registerPacket(PacketUpdateTravelEvents.ClientHandler.class, PacketUpdateTravelEvents.class);
         registerPacket(PacketAndroidChangeAbility.ServerHandler.class, PacketAndroidChangeAbility.class);
         registerBiPacket(PacketFirePlasmaShot.BiHandler.class, PacketFirePlasmaShot.class);
+        registerPacket(PacketFirePlasmaShotBatch.ClientHandler.class, PacketFirePlasmaShotBatch.class);
         registerPacket(PacketReloadEnergyWeapon.ServerHandler.class, PacketReloadEnergyWeapon.class);
         registerBiPacket(PacketManageConversation.BiHandler.class, PacketManageConversation.class);
         registerPacket(PacketConversationInteract.ServerHandler.class, PacketConversationInteract.class);
@@ -69,6 +71,7 @@ public class PacketPipeline {
         registerPacket(PacketResetBioStats.ServerHandler.class, PacketResetBioStats.class);
         registerPacket(PacketDigBlock.ServerHandler.class, PacketDigBlock.class);
         registerPacket(PacketUpdateQuest.ClientHandler.class, PacketUpdateQuest.class);
+        registerPacket(PacketUpdateQuestBatch.ClientHandler.class, PacketUpdateQuestBatch.class);
         registerPacket(PacketSyncQuests.ClientHandler.class, PacketSyncQuests.class);
         registerPacket(PacketQuestActions.ServerHandler.class, PacketQuestActions.class);
         registerPacket(PacketWeaponTick.ServerHandler.class, PacketWeaponTick.class);
@@ -57,6 +57,11 @@ public class PacketFirePlasmaShot extends PacketAbstract {
     public static class BiHandler extends AbstractBiPacketHandler<PacketFirePlasmaShot> {
         @Override
         public IMessage handleClientMessage(EntityPlayer player, PacketFirePlasmaShot message, MessageContext ctx) {
+            handleClientShot(player, message);
+            return null;
+        }
+
+        public void handleClientShot(EntityPlayer player, PacketFirePlasmaShot message) {
             if (player.getEntityId() != message.sender) {
                 Entity entity = player.worldObj.getEntityByID(message.sender);
                 if (entity != null && entity instanceof EntityLivingBase) {
@@ -67,13 +72,12 @@ public class PacketFirePlasmaShot extends PacketAbstract {
                 }
 
             }
-            return null;
         }
 
         @Override
         public IMessage handleServerMessage(EntityPlayer player, PacketFirePlasmaShot message, MessageContext ctx) {
             handleServerShot(player, message, 0);
-            MatterOverdrive.packetPipeline.sendToAllAround(message, player, message.shot.getRange() + 64);
+            MatterOverdrive.proxy.getWeaponHandler().queueShotReplication(player, message, message.shot.getRange() + 64);
             return null;
         }
 
@@ -0,0 +1,56 @@
+package matteroverdrive.network.packet.client;
+
+import cpw.mods.fml.common.network.simpleimpl.IMessage;
+import cpw.mods.fml.common.network.simpleimpl.MessageContext;
+import io.netty.buffer.ByteBuf;
+import matteroverdrive.network.packet.PacketAbstract;
+import matteroverdrive.network.packet.bi.PacketFirePlasmaShot;
+import net.minecraft.entity.player.EntityPlayer;
+
+import java.util.List;
+
+/**
+ * Sends all the shots fired during a tick by the entities a player is tracking, in one packet.
+ */
+public class PacketFirePlasmaShotBatch extends PacketAbstract {
+    private PacketFirePlasmaShot[] shots;
+
+    public PacketFirePlasmaShotBatch() {
+    }
+
+    public PacketFirePlasmaShotBatch(List<PacketFirePlasmaShot> shots) {
+        this.shots = shots.toArray(new PacketFirePlasmaShot[shots.size()]);
+    }
+
+    @Override
+    public void fromBytes(ByteBuf buf) {
+        shots = new PacketFirePlasmaShot[buf.readShort()];
+        for (int i = 0; i < shots.length; i++) {
+            shots[i] = new PacketFirePlasmaShot();
+            shots[i].fromBytes(buf);
+        }
+    }
+
+    @Override
+    public void toBytes(ByteBuf buf) {
+        buf.writeShort(shots.length);
+        for (PacketFirePlasmaShot shot : shots) {
+            shot.toBytes(buf);
+        }
+    }
+
+    public static class ClientHandler extends AbstractClientPacketHandler<PacketFirePlasmaShotBatch> {
+        private static final PacketFirePlasmaShot.BiHandler firePlasmaShotHandler = new PacketFirePlasmaShot.BiHandler();
+
+        public ClientHandler() {
+        }
+
+        @Override
+        public IMessage handleClientMessage(EntityPlayer player, PacketFirePlasmaShotBatch message, MessageContext ctx) {
+            for (PacketFirePlasmaShot shot : message.shots) {
+                firePlasmaShotHandler.handleClientShot(player, shot);
+            }
+            return null;
+        }
+    }
+}
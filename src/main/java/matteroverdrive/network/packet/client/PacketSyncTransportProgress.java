@@ -8,27 +8,34 @@ import matteroverdrive.network.packet.TileEntityUpdatePacket;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.tileentity.TileEntity;
 
+/**
+ * Sent when a transport starts, completes or is interrupted. Clients interpolate the progress between the start and target time.
+ */
 public class PacketSyncTransportProgress extends TileEntityUpdatePacket {
-    int progress;
+    long startTime;
+    long targetTime;
 
     public PacketSyncTransportProgress() {
     }
 
     public PacketSyncTransportProgress(TileEntityMachineTransporter transporter) {
         super(transporter);
-        this.progress = transporter.getTransportTime();
+        this.startTime = transporter.getTransportStartTime();
+        this.targetTime = transporter.getTransportTargetTime();
     }
 
     @Override
     public void fromBytes(ByteBuf buf) {
         super.fromBytes(buf);
-        progress = buf.readInt();
+        startTime = buf.readLong();
+        targetTime = buf.readLong();
     }
 
     @Override
     public void toBytes(ByteBuf buf) {
         super.toBytes(buf);
-        buf.writeInt(progress);
+        buf.writeLong(startTime);
+        buf.writeLong(targetTime);
     }
 
     public static class ClientHandler extends AbstractClientPacketHandler<PacketSyncTransportProgress> {
@@ -39,7 +46,7 @@ public class PacketSyncTransportProgress extends TileEntityUpdatePacket {
         public IMessage handleClientMessage(EntityPlayer player, PacketSyncTransportProgress message, MessageContext ctx) {
             TileEntity entity = message.getTileEntity(player.worldObj);
             if (entity instanceof TileEntityMachineTransporter) {
-                ((TileEntityMachineTransporter) entity).setTransportTime(message.progress);
+                ((TileEntityMachineTransporter) entity).setTransportProgress(message.startTime, message.targetTime);
             }
             return null;
         }
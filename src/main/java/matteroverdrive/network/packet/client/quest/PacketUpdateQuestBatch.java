@@ -0,0 +1,66 @@
+package matteroverdrive.network.packet.client.quest;
+
+import cpw.mods.fml.common.network.ByteBufUtils;
+import cpw.mods.fml.common.network.simpleimpl.IMessage;
+import cpw.mods.fml.common.network.simpleimpl.MessageContext;
+import io.netty.buffer.ByteBuf;
+import matteroverdrive.api.quest.QuestStack;
+import matteroverdrive.entity.player.MOExtendedProperties;
+import matteroverdrive.network.packet.PacketAbstract;
+import matteroverdrive.network.packet.client.AbstractClientPacketHandler;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.nbt.NBTTagCompound;
+
+/**
+ * Sends all the active quests that changed during a tick, in one packet.
+ */
+public class PacketUpdateQuestBatch extends PacketAbstract {
+    private int[] questIndexes;
+    private QuestStack[] questStacks;
+
+    public PacketUpdateQuestBatch() {
+    }
+
+    public PacketUpdateQuestBatch(int[] questIndexes, QuestStack[] questStacks) {
+        this.questIndexes = questIndexes;
+        this.questStacks = questStacks;
+    }
+
+    @Override
+    public void fromBytes(ByteBuf buf) {
+        int count = buf.readShort();
+        questIndexes = new int[count];
+        questStacks = new QuestStack[count];
+        for (int i = 0; i < count; i++) {
+            questIndexes[i] = buf.readInt();
+            questStacks[i] = QuestStack.loadFromNBT(ByteBufUtils.readTag(buf));
+        }
+    }
+
+    @Override
+    public void toBytes(ByteBuf buf) {
+        buf.writeShort(questIndexes.length);
+        for (int i = 0; i < questIndexes.length; i++) {
+            buf.writeInt(questIndexes[i]);
+            NBTTagCompound questStackNBT = new NBTTagCompound();
+            questStacks[i].writeToNBT(questStackNBT);
+            ByteBufUtils.writeTag(buf, questStackNBT);
+        }
+    }
+
+    public static class ClientHandler extends AbstractClientPacketHandler<PacketUpdateQuestBatch> {
+        public ClientHandler() {
+        }
+
+        @Override
+        public IMessage handleClientMessage(EntityPlayer player, PacketUpdateQuestBatch message, MessageContext ctx) {
+            MOExtendedProperties extendedProperties = MOExtendedProperties.get(player);
+            if (extendedProperties != null) {
+                for (int i = 0; i < message.questIndexes.length; i++) {
+                    extendedProperties.updateQuestFromServer(message.questIndexes[i], message.questStacks[i]);
+                }
+            }
+            return null;
+        }
+    }
+}
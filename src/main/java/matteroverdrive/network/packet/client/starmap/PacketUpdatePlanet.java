@@ -78,6 +78,7 @@ public class PacketUpdatePlanet extends PacketAbstract {
                         } else {
                             planet.readFromNBT(message.planetData, null);
                         }
+                        GalaxyClient.getInstance().onGalaxyChanged();
                         notifyChange(planet);
                     }
                 }
@@ -3,11 +3,15 @@ package matteroverdrive.network.packet.server;
 import cpw.mods.fml.common.network.simpleimpl.IMessage;
 import cpw.mods.fml.common.network.simpleimpl.MessageContext;
 import io.netty.buffer.ByteBuf;
+import matteroverdrive.Reference;
 import matteroverdrive.data.ItemPattern;
 import matteroverdrive.network.packet.TileEntityUpdatePacket;
 import matteroverdrive.tile.TileEntityMachinePatternMonitor;
+import matteroverdrive.util.MOStringHelper;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.ChatComponentText;
+import net.minecraft.util.EnumChatFormatting;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -64,7 +68,11 @@ public class PacketPatternMonitorCommands extends TileEntityUpdatePacket {
                     monitor.queueSearch();
                 } else if (message.command == COMMAND_REQUEST) {
                     if (message.patterns != null) {
-                        monitor.queuePatternRequest(message.patterns);
+                        int dropped = monitor.queuePatternRequest(message.patterns);
+                        if (dropped > 0) {
+                            player.addChatMessage(new ChatComponentText(EnumChatFormatting.GOLD + "[" + Reference.MOD_NAME + "]" +
+                                    EnumChatFormatting.RED + " " + MOStringHelper.translateToLocalFormatted("alert.pattern_monitor.queue_full", dropped)));
+                        }
                     }
                 }
             }
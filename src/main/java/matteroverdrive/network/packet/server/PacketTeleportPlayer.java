@@ -7,6 +7,7 @@ import matteroverdrive.MatterOverdrive;
 import matteroverdrive.Reference;
 import matteroverdrive.api.events.bionicStats.MOEventBionicStat;
 import matteroverdrive.data.biostats.BioticStatTeleport;
+import matteroverdrive.entity.player.AndroidEffects;
 import matteroverdrive.entity.player.AndroidPlayer;
 import matteroverdrive.init.MatterOverdriveBioticStats;
 import matteroverdrive.network.packet.PacketAbstract;
@@ -15,8 +16,6 @@ import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.util.Vec3;
 import net.minecraftforge.common.MinecraftForge;
 
-import java.util.EnumSet;
-
 public class PacketTeleportPlayer extends PacketAbstract {
 
     double x, y, z;
@@ -62,10 +61,9 @@ public class PacketTeleportPlayer extends PacketAbstract {
                     player.worldObj.playSoundToNearExcept(player, Reference.MOD_ID + ":" + "android_teleport", 0.2f, 0.8f + 0.4f * player.worldObj.rand.nextFloat());
                     player.setPositionAndUpdate(message.x, message.y, message.z);
                     player.worldObj.playSoundEffect(message.x, message.y, message.z, Reference.MOD_ID + ":" + "android_teleport", 0.2f, 0.8f + 0.4f * player.worldObj.rand.nextFloat());
-                    androidPlayer.getEffects().setLong("LastTeleport", player.worldObj.getTotalWorldTime() + BioticStatTeleport.TELEPORT_DELAY);
-                    androidPlayer.getEffects().setInteger("GlitchTime", 5);
+                    androidPlayer.getEffects().setLong(AndroidEffects.LAST_TELEPORT, player.worldObj.getTotalWorldTime() + BioticStatTeleport.TELEPORT_DELAY);
+                    androidPlayer.getEffects().setInteger(AndroidEffects.GLITCH_TIME, 5);
                     androidPlayer.extractEnergyScaled(BioticStatTeleport.ENERGY_PER_TELEPORT);
-                    androidPlayer.sync(EnumSet.of(AndroidPlayer.DataType.EFFECTS));
                     androidPlayer.getPlayer().fallDistance = 0;
                 }
             }
@@ -5,6 +5,7 @@ import cpw.mods.fml.common.gameevent.TickEvent;
 import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
 import matteroverdrive.api.starmap.IShip;
+import matteroverdrive.starmap.data.Galaxy;
 import matteroverdrive.starmap.data.Planet;
 import matteroverdrive.starmap.data.Star;
 import net.minecraft.client.Minecraft;
@@ -15,6 +16,10 @@ import net.minecraft.item.ItemStack;
 public class GalaxyClient extends GalaxyCommon {
     //region Private Vars
     private static GalaxyClient instance;
+    /**
+     * Increased each time the galaxy data changes, so the cached starmap geometry is built again.
+     */
+    private int version;
     //endregion
 
     //region Constructors
@@ -46,6 +51,16 @@ public class GalaxyClient extends GalaxyCommon {
         return false;
     }
 
+    @Override
+    public void loadClaimedPlanets() {
+        super.loadClaimedPlanets();
+        onGalaxyChanged();
+    }
+
+    public void onGalaxyChanged() {
+        version++;
+    }
+
     //region Events
     @SubscribeEvent
     public void onClientTick(TickEvent.ClientTickEvent event) {
@@ -69,5 +84,15 @@ public class GalaxyClient extends GalaxyCommon {
 
         return instance;
     }
+
+    public int getVersion() {
+        return version;
+    }
+
+    @Override
+    public void setTheGalaxy(Galaxy galaxy) {
+        super.setTheGalaxy(galaxy);
+        onGalaxyChanged();
+    }
     //endregion
 }
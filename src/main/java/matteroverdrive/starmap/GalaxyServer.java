@@ -8,6 +8,7 @@ import matteroverdrive.api.starmap.GalacticPosition;
 import matteroverdrive.api.starmap.IBuilding;
 import matteroverdrive.api.starmap.IShip;
 import matteroverdrive.handler.ConfigurationHandler;
+import matteroverdrive.handler.TickProfiler;
 import matteroverdrive.init.MatterOverdriveItems;
 import matteroverdrive.network.packet.client.starmap.PacketUpdateGalaxy;
 import matteroverdrive.network.packet.client.starmap.PacketUpdatePlanet;
@@ -266,7 +267,9 @@ public class GalaxyServer extends GalaxyCommon implements IConfigSubscriber {
             return;
 
         if (!event.world.isRemote && event.world.provider.dimensionId == 0) {
+            long start = TickProfiler.start();
             theGalaxy.update(event.world);
+            TickProfiler.end(TickProfiler.Section.GALAXY, start);
         }
     }
 
@@ -26,6 +26,7 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
 
@@ -43,6 +44,15 @@ public class Planet extends SpaceBody implements IInventory {
     private List<ItemStack> fleet;
     private boolean isDirty, homeworld, generated, needsClientUpdate;
     private int buildingSpaces, fleetSpaces, seed;
+    /**
+     * The number of buildings of each {@link BuildingType}, kept up to date as buildings are added.
+     */
+    private int[] buildingTypeCounts;
+    /**
+     * The stats from {@link #getStatChangeFromBuildings(PlanetStatType, float)}, cached until the buildings or the fleet change.
+     */
+    private float[] statValues, statOriginals;
+    private boolean[] statCached;
     //endregion
 
     //region Constructors
@@ -61,6 +71,10 @@ public class Planet extends SpaceBody implements IInventory {
         inventory = new ItemStack[SLOT_COUNT];
         buildings = new ArrayList();
         fleet = new ArrayList();
+        buildingTypeCounts = new int[BuildingType.values().length];
+        statValues = new float[PlanetStatType.values().length];
+        statOriginals = new float[PlanetStatType.values().length];
+        statCached = new boolean[PlanetStatType.values().length];
     }
 
     //region Updates
@@ -80,7 +94,7 @@ public class Planet extends SpaceBody implements IInventory {
                         //if below zero then the building was just put in
                         if (canBuild((IBuilding) buildableStack.getItem(), buildableStack, buildInfo)) {
                             if (((IBuilding) buildableStack.getItem()).isReadyToBuild(world, buildableStack, this)) {
-                                buildings.add(buildableStack);
+                                addBuilding(buildableStack);
                                 if (getOwnerUUID() != null) {
                                     ((IBuilding) buildableStack.getItem()).setOwner(buildableStack, getOwnerUUID());
                                 }
@@ -98,7 +112,7 @@ public class Planet extends SpaceBody implements IInventory {
                         //if below zero then the ship was just put in
                         if (canBuild((IShip) buildableStack.getItem(), buildableStack, buildInfo)) {
                             if (((IShip) buildableStack.getItem()).isReadyToBuild(world, buildableStack, this)) {
-                                fleet.add(buildableStack);
+                                addShip(buildableStack);
                                 if (getOwnerUUID() != null) {
                                     ((IShip) buildableStack.getItem()).setOwner(buildableStack, getOwnerUUID());
                                 }
@@ -143,6 +157,7 @@ public class Planet extends SpaceBody implements IInventory {
                 if (ship.stackSize <= 0) {
                     removeShip(ship);
                 }
+                invalidateStats();
 
                 markDirty();
                 markForUpdate();
@@ -210,6 +225,8 @@ public class Planet extends SpaceBody implements IInventory {
         super.readFromNBT(tagCompound, generator);
         buildings.clear();
         fleet.clear();
+        Arrays.fill(buildingTypeCounts, 0);
+        invalidateStats();
         for (int i = 0; i < getSizeInventory(); i++) {
             if (tagCompound.hasKey("Slot" + i, 10)) {
                 setInventorySlotContents(i, ItemStack.loadItemStackFromNBT(tagCompound.getCompoundTag("Slot" + i)));
@@ -351,6 +368,7 @@ public class Planet extends SpaceBody implements IInventory {
 
     public void setBuildingSpaces(int buildingSpaces) {
         this.buildingSpaces = buildingSpaces;
+        invalidateStats();
     }
 
     public List<ItemStack> getBuildings() {
@@ -367,6 +385,7 @@ public class Planet extends SpaceBody implements IInventory {
 
     public void setFleetSpaces(int fleetSpaces) {
         this.fleetSpaces = fleetSpaces;
+        invalidateStats();
     }
 
     public void setSeed(int seed) {
@@ -409,6 +428,7 @@ public class Planet extends SpaceBody implements IInventory {
         if (ship != null) {
             if (ship.getItem() instanceof IShip) {
                 fleet.add(ship);
+                invalidateStats();
             } else {
                 MOLog.error("Trying to add an itemstack to ships, that does not contain a Ship Item");
             }
@@ -431,18 +451,29 @@ public class Planet extends SpaceBody implements IInventory {
     }
 
     public ItemStack removeShip(int at) {
-        if (at < fleet.size()) return fleet.remove(at);
-        else return null;
+        if (at < fleet.size()) {
+            invalidateStats();
+            return fleet.remove(at);
+        } else return null;
     }
 
     public boolean removeShip(ItemStack ship) {
-        return fleet.remove(ship);
+        if (fleet.remove(ship)) {
+            invalidateStats();
+            return true;
+        }
+        return false;
     }
 
     public void addBuilding(@Nonnull ItemStack building) {
         if (building != null) {
             if (building.getItem() instanceof IBuilding) {
                 this.buildings.add(building);
+                BuildingType type = ((IBuilding) building.getItem()).getType(building);
+                if (type != null) {
+                    buildingTypeCounts[type.ordinal()]++;
+                }
+                invalidateStats();
             } else {
                 MOLog.error("Trying to add a stack to buildings, that does not contain a Building Item");
             }
@@ -509,21 +540,37 @@ public class Planet extends SpaceBody implements IInventory {
     }
 
     public boolean hasBuildingType(BuildingType buildingType) {
-        for (ItemStack building : getBuildings()) {
-            if (building.getItem() instanceof IBuilding && ((IBuilding) building.getItem()).getType(building) == buildingType) {
-                return true;
-            }
-        }
-        return false;
+        return getBuildingTypeCount(buildingType) > 0;
+    }
+
+    public int getBuildingTypeCount(BuildingType buildingType) {
+        return buildingTypeCounts[buildingType.ordinal()];
     }
 
     public float getStatChangeFromBuildings(PlanetStatType statType, float original) {
+        int index = statType.ordinal();
+        if (statCached[index] && statOriginals[index] == original) {
+            return statValues[index];
+        }
+
+        float value = original;
         for (ItemStack building : getBuildings()) {
             if (building.getItem() instanceof IPlanetStatChange) {
-                original = ((IPlanetStatChange) building.getItem()).changeStat(building, this, statType, original);
+                value = ((IPlanetStatChange) building.getItem()).changeStat(building, this, statType, value);
             }
         }
-        return original;
+        statValues[index] = value;
+        statOriginals[index] = original;
+        statCached[index] = true;
+        return value;
+    }
+
+    /**
+     * Clears the cached stats, so they are calculated again from the buildings on the next query.
+     * Called when the buildings or the fleet change.
+     */
+    public void invalidateStats() {
+        Arrays.fill(statCached, false);
     }
 
     public boolean isDirty() {
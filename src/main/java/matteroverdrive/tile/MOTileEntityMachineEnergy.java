@@ -5,6 +5,7 @@ import cofh.api.energy.IEnergyHandler;
 import cofh.api.energy.IEnergyStorage;
 import cpw.mods.fml.common.network.NetworkRegistry;
 import matteroverdrive.MatterOverdrive;
+import matteroverdrive.data.AdjacentEnergyReceivers;
 import matteroverdrive.data.Inventory;
 import matteroverdrive.data.MachineEnergyStorage;
 import matteroverdrive.data.inventory.EnergySlot;
@@ -22,10 +23,12 @@ import java.util.EnumSet;
 public abstract class MOTileEntityMachineEnergy extends MOTileEntityMachine implements IEnergyHandler {
     protected MachineEnergyStorage energyStorage;
     protected int energySlotID;
+    protected final AdjacentEnergyReceivers adjacentEnergyReceivers;
 
     public MOTileEntityMachineEnergy(int upgradeCount) {
         super(upgradeCount);
         this.energyStorage = new MachineEnergyStorage(this, 512);
+        this.adjacentEnergyReceivers = new AdjacentEnergyReceivers(this);
     }
 
     @Override
@@ -69,6 +72,28 @@ public abstract class MOTileEntityMachineEnergy extends MOTileEntityMachine impl
         }
     }
 
+    @Override
+    public void onNeighborBlockChange() {
+        super.onNeighborBlockChange();
+        adjacentEnergyReceivers.markDirty();
+    }
+
+    @Override
+    public void invalidate() {
+        super.invalidate();
+        adjacentEnergyReceivers.clear();
+    }
+
+    @Override
+    public void onChunkUnload() {
+        super.onChunkUnload();
+        adjacentEnergyReceivers.clear();
+    }
+
+    public AdjacentEnergyReceivers getAdjacentEnergyReceivers() {
+        return adjacentEnergyReceivers;
+    }
+
     public boolean isCharging() {
         return this.inventory.getStackInSlot(energySlotID) != null
                 && MOEnergyHelper.isEnergyContainerItem(this.inventory.getStackInSlot(energySlotID))
@@ -634,8 +634,15 @@ public class TileEntityGravitationalAnomaly extends MOTileEntity implements ISca
     }
 
     public void suppress(AnomalySuppressor suppressor) {
-        for (AnomalySuppressor s : supressors) {
+        for (int i = 0; i < supressors.size(); i++) {
+            AnomalySuppressor s = supressors.get(i);
+            if (s == suppressor) {
+                return;
+            }
             if (s.update(suppressor)) {
+                //keep the instance of the caller, so it can renew the suppression without registering it again
+                suppressor.setTime(s.getTime());
+                supressors.set(i, suppressor);
                 return;
             }
         }
@@ -237,7 +237,7 @@ public class TileEntityInscriber extends MOTileEntityMachineEnergy {
         ItemStack mainStack = inventory.getStackInSlot(MAIN_INPUT_SLOT_ID);
         ItemStack secStack = inventory.getStackInSlot(SEC_INPUT_SLOT_ID);
         if (mainStack != null && secStack != null) {
-            cachedRecipe = InscriberRecipes.getRecipe(mainStack, secStack);
+            cachedRecipe = InscriberRecipes.getRecipe(mainStack, secStack, cachedRecipe);
             return;
         }
         cachedRecipe = null;
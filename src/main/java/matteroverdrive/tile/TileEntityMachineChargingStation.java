@@ -2,6 +2,7 @@ package matteroverdrive.tile;
 
 import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
+import matteroverdrive.MatterOverdrive;
 import matteroverdrive.api.inventory.UpgradeTypes;
 import matteroverdrive.api.machines.IUpgradeHandler;
 import matteroverdrive.data.BlockPos;
@@ -43,7 +44,7 @@ public class TileEntityMachineChargingStation extends MOTileEntityMachineEnergy
         if (!worldObj.isRemote && getEnergyStored(ForgeDirection.UNKNOWN) > 0) {
             int range = getRage();
             AxisAlignedBB radius = AxisAlignedBB.getBoundingBox(xCoord - range, yCoord - range, zCoord - range, xCoord + range, yCoord + range, zCoord + range);
-            List<EntityPlayer> players = worldObj.getEntitiesWithinAABB(EntityPlayer.class, radius);
+            List<EntityPlayer> players = MatterOverdrive.tickHandler.getEntityProximityHandler().getPlayersWithinAABB(worldObj, radius);
             for (EntityPlayer player : players) {
                 if (AndroidPlayer.get(player).isAndroid()) {
                     int required = getRequiredEnergy(player, range);
@@ -3,15 +3,20 @@ package matteroverdrive.tile;
 import cpw.mods.fml.common.gameevent.TickEvent;
 import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
+import matteroverdrive.MatterOverdrive;
 import matteroverdrive.api.gravity.AnomalySuppressor;
 import matteroverdrive.api.inventory.UpgradeTypes;
 import matteroverdrive.blocks.BlockGravitationalAnomaly;
 import matteroverdrive.client.render.RenderParticlesHandler;
 import matteroverdrive.fx.GravitationalStabilizerBeamParticle;
 import matteroverdrive.proxy.ClientProxy;
+import matteroverdrive.util.TimeTracker;
 import matteroverdrive.util.math.MOMathHelper;
+import matteroverdrive.world.BlockChangeWatcher;
+import matteroverdrive.world.IBlockChangeListener;
 import net.minecraft.block.Block;
 import net.minecraft.entity.EntityLivingBase;
+import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.AxisAlignedBB;
 import net.minecraft.util.MovingObjectPosition;
 import net.minecraft.util.Vec3;
@@ -19,10 +24,35 @@ import net.minecraft.world.World;
 import net.minecraftforge.common.util.ForgeDirection;
 import org.lwjgl.util.vector.Vector3f;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import static matteroverdrive.util.MOBlockHelper.getAboveSide;
 
-public class TileEntityMachineGravitationalStabilizer extends MOTileEntityMachineEnergy implements IMOTickable {
+public class TileEntityMachineGravitationalStabilizer extends MOTileEntityMachineEnergy implements IMOTickable, IBlockChangeListener {
+    public static final int BEAM_RANGE = 64;
+    public static final int BEAM_CHECK_DELAY = 20;
+    public static final int SUPPRESSION_TIME = 20;
+    public static final float SUPPRESSION_AMOUNT = 0.7f;
     MovingObjectPosition hit;
+    /**
+     * The anomaly the beam hits, searched again only when a block along the beam changes.
+     * Client worlds have no block change watcher, so there the beam is searched again every {@link #BEAM_CHECK_DELAY} ticks.
+     */
+    private TileEntityGravitationalAnomaly targetAnomaly;
+    private boolean beamChanged = true;
+    private BlockChangeWatcher blockChangeWatcher;
+    /**
+     * The block and metadata of each watched position, so that tile entity syncs, which notify the watcher without
+     * changing the block, do not search the beam again.
+     */
+    private final Map<Long, Integer> beamSnapshot = new HashMap<>();
+    private final TimeTracker beamCheckTimer = new TimeTracker();
+    /**
+     * The suppressor registered with the suppressed anomaly, renewed every tick while the beam hits it.
+     */
+    private AnomalySuppressor suppressor;
+    private TileEntityGravitationalAnomaly suppressedAnomaly;
 
     public TileEntityMachineGravitationalStabilizer() {
         super(4);
@@ -33,19 +63,59 @@ public class TileEntityMachineGravitationalStabilizer extends MOTileEntityMachin
         super.updateEntity();
 
         if (worldObj.isRemote) {
+            updateBeam(worldObj);
             spawnParticles(worldObj);
-            hit = seacrhForAnomalies(worldObj);
         }
     }
 
+    @Override
+    public void invalidate() {
+        super.invalidate();
+        stopWatchingBeam();
+    }
+
+    @Override
+    public void onChunkUnload() {
+        super.onChunkUnload();
+        stopWatchingBeam();
+    }
+
     @Override
     protected void onAwake(Side side) {
 
     }
 
+    void updateBeam(World world) {
+        if (targetAnomaly != null && targetAnomaly.isInvalid()) {
+            beamChanged = true;
+        }
+        if (blockChangeWatcher == null && beamCheckTimer.hasDelayPassed(world, BEAM_CHECK_DELAY)) {
+            beamChanged = true;
+        }
+
+        if (beamChanged) {
+            hit = seacrhForAnomalies(world);
+            TileEntity tileEntity = hit != null ? world.getTileEntity(hit.blockX, hit.blockY, hit.blockZ) : null;
+            targetAnomaly = tileEntity instanceof TileEntityGravitationalAnomaly ? (TileEntityGravitationalAnomaly) tileEntity : null;
+        }
+    }
+
     MovingObjectPosition seacrhForAnomalies(World world) {
+        if (blockChangeWatcher == null) {
+            blockChangeWatcher = MatterOverdrive.blockHandler.getBlockChangeWatcher(world);
+        }
+        if (blockChangeWatcher != null) {
+            blockChangeWatcher.unwatch(this);
+        }
+        beamSnapshot.clear();
+        //the machine itself is watched, as its metadata holds the direction of the beam
+        watchBeamBlock(world, xCoord, yCoord, zCoord);
+        beamChanged = false;
+
         ForgeDirection front = ForgeDirection.getOrientation(world.getBlockMetadata(xCoord, yCoord, zCoord));
-        for (int i = 1; i < 64; i++) {
+        for (int i = 1; i < BEAM_RANGE; i++) {
+            watchBeamBlock(world, xCoord + front.offsetX * i, yCoord + front.offsetY * i, zCoord + front.offsetZ * i);
+
             Block block = world.getBlock(xCoord + front.offsetX * i, yCoord + front.offsetY * i, zCoord + front.offsetZ * i);
             if (block instanceof BlockGravitationalAnomaly || block.getMaterial() == null || block.getMaterial().isOpaque()) {
                 return new MovingObjectPosition(xCoord + front.offsetX * i, yCoord + front.offsetY * i, zCoord + front.offsetZ * i, front.getOpposite().ordinal(), Vec3.createVectorHelper(xCoord + (front.offsetX * i) - Math.abs(front.offsetX) * 0.5, yCoord + (front.offsetY * i) - Math.abs(front.offsetY) * 0.5, zCoord + (front.offsetZ * i) - Math.abs(front.offsetZ) * 0.5));
@@ -55,15 +125,54 @@ public class TileEntityMachineGravitationalStabilizer extends MOTileEntityMachin
     }
 
     void manageAnomalies(World world) {
-        hit = seacrhForAnomalies(world);
-        if (hit != null && world.getTileEntity(hit.blockX, hit.blockY, hit.blockZ) instanceof TileEntityGravitationalAnomaly) {
-            ((TileEntityGravitationalAnomaly) world.getTileEntity(hit.blockX, hit.blockY, hit.blockZ)).suppress(new AnomalySuppressor(xCoord, yCoord, zCoord, 20, 0.7f));
+        updateBeam(world);
+        if (targetAnomaly != null) {
+            if (suppressor == null) {
+                suppressor = new AnomalySuppressor(xCoord, yCoord, zCoord, SUPPRESSION_TIME, SUPPRESSION_AMOUNT);
+            }
+
+            if (targetAnomaly != suppressedAnomaly || !suppressor.isValid()) {
+                //the anomaly drops the suppressor once it runs out, so it has to be registered again
+                suppressor.setTime(SUPPRESSION_TIME);
+                targetAnomaly.suppress(suppressor);
+                suppressedAnomaly = targetAnomaly;
+            } else {
+                suppressor.setTime(SUPPRESSION_TIME);
+            }
+        }
+    }
+
+    @Override
+    public void onBlockChanged(World world, int x, int y, int z) {
+        Integer state = beamSnapshot.get(BlockChangeWatcher.getKey(x, y, z));
+        if (state == null || state != getBlockState(world, x, y, z)) {
+            beamChanged = true;
+        }
+    }
+
+    private void watchBeamBlock(World world, int x, int y, int z) {
+        if (blockChangeWatcher != null) {
+            blockChangeWatcher.watch(this, x, y, z);
+            beamSnapshot.put(BlockChangeWatcher.getKey(x, y, z), getBlockState(world, x, y, z));
+        }
+    }
+
+    private static int getBlockState(World world, int x, int y, int z) {
+        return Block.getIdFromBlock(world.getBlock(x, y, z)) << 4 | world.getBlockMetadata(x, y, z);
+    }
+
+    private void stopWatchingBeam() {
+        if (blockChangeWatcher != null) {
+            blockChangeWatcher.unwatch(this);
+            blockChangeWatcher = null;
         }
+        beamSnapshot.clear();
+        beamChanged = true;
     }
 
     @SideOnly(Side.CLIENT)
     void spawnParticles(World world) {
-        if (hit != null && world.getTileEntity(hit.blockX, hit.blockY, hit.blockZ) instanceof TileEntityGravitationalAnomaly) {
+        if (hit != null && targetAnomaly != null) {
             if (random.nextFloat() < 0.2f) {
                 float r = (float) getBeamColorR();
                 float g = (float) getBeamColorG();
@@ -17,6 +17,9 @@ import net.minecraftforge.common.util.ForgeDirection;
 public abstract class TileEntityMachinePacketQueue extends MOTileEntityMachine implements IMatterNetworkClient {
     public static int BROADCAST_DELAY = 2;
     public static int TASK_QUEUE_SIZE = 16;
+    public static int PACKETS_PER_TICK = 1;
+    public static int MAX_BROADCASTS_PER_TICK = 24;
+    public static int FLASH_DELAY = 4;
     protected MatterNetworkComponentQueue networkComponent;
     @SideOnly(Side.CLIENT)
     public int flashTime;
@@ -132,5 +135,12 @@ public abstract class TileEntityMachinePacketQueue extends MOTileEntityMachine i
     public int getPacketQueueCount() {
         return networkComponent.getPacketQueueCount();
     }
+
+    /**
+     * @return the amount of packets sent each tick from each queue. Rounded up, so a single Speed upgrade already sends an extra packet.
+     */
+    public int getPacketsPerTick() {
+        return Math.max(1, (int) Math.ceil(PACKETS_PER_TICK / Math.max(getUpgradeMultiply(UpgradeTypes.Speed), 0.01)));
+    }
     //endregion
 }
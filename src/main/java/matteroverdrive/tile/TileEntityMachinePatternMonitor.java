@@ -1,5 +1,6 @@
 package matteroverdrive.tile;
 
+import cpw.mods.fml.common.Optional;
 import cpw.mods.fml.common.gameevent.TickEvent;
 import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
@@ -8,6 +9,7 @@ import matteroverdrive.api.inventory.UpgradeTypes;
 import matteroverdrive.api.network.IMatterNetworkBroadcaster;
 import matteroverdrive.api.network.IMatterNetworkClient;
 import matteroverdrive.api.network.IMatterNetworkDispatcher;
+import matteroverdrive.compat.modules.waila.IWailaBodyProvider;
 import matteroverdrive.data.BlockPos;
 import matteroverdrive.data.ItemPattern;
 import matteroverdrive.machines.MOTileEntityMachine;
@@ -15,13 +17,20 @@ import matteroverdrive.machines.MachineNBTCategory;
 import matteroverdrive.machines.components.ComponentMatterNetworkConfigs;
 import matteroverdrive.matter_network.MatterNetworkPacket;
 import matteroverdrive.matter_network.MatterNetworkPacketQueue;
+import matteroverdrive.matter_network.MatterNetworkReplicationScheduler;
 import matteroverdrive.matter_network.MatterNetworkTaskQueue;
 import matteroverdrive.matter_network.components.MatterNetworkComponentPatternMonitor;
 import matteroverdrive.matter_network.tasks.MatterNetworkTaskReplicatePattern;
 import matteroverdrive.network.packet.client.PacketPatternMonitorSync;
+import matteroverdrive.util.MOStringHelper;
 import matteroverdrive.util.TimeTracker;
+import mcp.mobius.waila.api.IWailaConfigHandler;
+import mcp.mobius.waila.api.IWailaDataAccessor;
 import net.minecraft.entity.EntityLivingBase;
+import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.EnumChatFormatting;
 import net.minecraft.world.World;
 import net.minecraftforge.common.util.ForgeDirection;
 
@@ -32,11 +41,12 @@ import java.util.List;
 
 import static matteroverdrive.util.MOBlockHelper.getOppositeSide;
 
-public class TileEntityMachinePatternMonitor extends MOTileEntityMachine implements IMatterNetworkDispatcher, IMatterNetworkClient, IMatterNetworkBroadcaster {
+public class TileEntityMachinePatternMonitor extends MOTileEntityMachine implements IMatterNetworkDispatcher, IMatterNetworkClient, IMatterNetworkBroadcaster, IWailaBodyProvider {
     public static final int BROADCAST_WEATING_DELAY = 80;
     public static final int SEARCH_DELAY = 20;
     public static final int VALIDATE_DELAY = 120;
     public static final int TASK_QUEUE_SIZE = 16;
+    public static final int SCHEDULE_DELAY = 20;
     List<ItemPattern> guiPatterns = new ArrayList<>();
     HashSet<BlockPos> databases;
     MatterNetworkTaskQueue<MatterNetworkTaskReplicatePattern> taskQueue;
@@ -110,8 +120,11 @@ public class TileEntityMachinePatternMonitor extends MOTileEntityMachine impleme
     @Override
     public void writeCustomNBT(NBTTagCompound nbt, EnumSet<MachineNBTCategory> categories, boolean toDisk) {
         super.writeCustomNBT(nbt, categories, toDisk);
-        if (categories.contains(MachineNBTCategory.DATA) && toDisk) {
-            taskQueue.writeToNBT(nbt);
+        if (categories.contains(MachineNBTCategory.DATA)) {
+            if (toDisk) {
+                taskQueue.writeToNBT(nbt);
+            }
+            networkComponent.getScheduler().writeStatsToNBT(nbt, toDisk);
         }
     }
 
@@ -125,6 +138,7 @@ public class TileEntityMachinePatternMonitor extends MOTileEntityMachine impleme
         super.readCustomNBT(nbt, categories);
         if (categories.contains(MachineNBTCategory.DATA)) {
             taskQueue.readFromNBT(nbt);
+            networkComponent.getScheduler().readStatsFromNBT(nbt);
         }
     }
 
@@ -146,8 +160,8 @@ public class TileEntityMachinePatternMonitor extends MOTileEntityMachine impleme
 
     //endregion
 
-    public void queuePatternRequest(List<ItemPattern> request) {
-        networkComponent.queuePatternRequest(request);
+    public int queuePatternRequest(List<ItemPattern> request) {
+        return networkComponent.queuePatternRequest(request);
     }
 
     public HashSet<BlockPos> getDatabases() {
@@ -221,6 +235,25 @@ public class TileEntityMachinePatternMonitor extends MOTileEntityMachine impleme
         return componentMatterNetworkConfigs;
     }
 
+    public MatterNetworkReplicationScheduler getScheduler() {
+        return networkComponent.getScheduler();
+    }
+
+    @Override
+    @Optional.Method(modid = "Waila")
+    public List<String> getWailaBody(ItemStack itemStack, List<String> currenttip, IWailaDataAccessor accessor, IWailaConfigHandler config) {
+        TileEntity te = accessor.getTileEntity();
+        if (te instanceof TileEntityMachinePatternMonitor) {
+            MatterNetworkReplicationScheduler scheduler = ((TileEntityMachinePatternMonitor) te).getScheduler();
+            currenttip.add(EnumChatFormatting.YELLOW + MOStringHelper.translateToLocalFormatted("waila.pattern_monitor.replicators", scheduler.getBusyReplicators(), scheduler.getReplicatorCount()));
+            currenttip.add(EnumChatFormatting.YELLOW + MOStringHelper.translateToLocalFormatted("waila.pattern_monitor.pending", scheduler.getPendingCopies()));
+            currenttip.add(EnumChatFormatting.YELLOW + MOStringHelper.translateToLocalFormatted("waila.pattern_monitor.replicated", scheduler.getTotalCompleted(), scheduler.getCopiesPerMinute()));
+        } else {
+            throw new RuntimeException("Pattern Monitor WAILA provider is being used for something that is not a Pattern Monitor: " + te.getClass());
+        }
+        return currenttip;
+    }
+
     @SideOnly(Side.CLIENT)
     public List<ItemPattern> getGuiPatterns() {
         return guiPatterns;
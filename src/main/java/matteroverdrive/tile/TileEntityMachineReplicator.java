@@ -25,6 +25,7 @@ import matteroverdrive.matter_network.MatterNetworkPacketQueue;
 import matteroverdrive.matter_network.MatterNetworkTaskQueue;
 import matteroverdrive.matter_network.components.MatterNetworkComponentReplicator;
 import matteroverdrive.matter_network.tasks.MatterNetworkTaskReplicatePattern;
+import matteroverdrive.matter_network.tasks.ReplicationPlan;
 import matteroverdrive.network.packet.client.PacketReplicationComplete;
 import matteroverdrive.util.MatterHelper;
 import matteroverdrive.util.MatterNetworkHelper;
@@ -67,6 +68,7 @@ public class TileEntityMachineReplicator extends MOTileEntityMachineMatter imple
     public static int REPLICATE_ENERGY_PER_MATTER = 16000;
     public static final int RADIATION_DAMAGE_DELAY = 5;
     public static final int RADIATION_RANGE = 8;
+    public static final int REPLICATION_NOTIFY_RANGE = 64;
     public static final double FAIL_CHANCE = 0.005;
 
     @SideOnly(Side.CLIENT)
@@ -127,29 +129,28 @@ public class TileEntityMachineReplicator extends MOTileEntityMachineMatter imple
 
         if (this.isActive()) {
 
-            ItemStack newItem = internalPatternStorage.toItemStack(false);
-            int time = getSpeed(newItem);
-
             if (!worldObj.isRemote) {
-                if (taskQueueProcessing.peek().isValid(worldObj)) {
-                    if (energyStorage.getEnergyStored() >= getEnergyDrainPerTick()) {
+                MatterNetworkTaskReplicatePattern task = taskQueueProcessing.peek();
+                if (task.isValid(worldObj)) {
+                    ReplicationPlan plan = getPlan(task);
+                    if (energyStorage.getEnergyStored() >= plan.getEnergyPerTick()) {
 
 
-                        taskQueueProcessing.peek().setState(MatterNetworkTaskState.PROCESSING);
+                        task.setState(MatterNetworkTaskState.PROCESSING);
                         this.replicateTime++;
-                        this.extractEnergy(ForgeDirection.DOWN, getEnergyDrainPerTick(), false);
+                        this.extractEnergy(ForgeDirection.DOWN, plan.getEnergyPerTick(), false);
 
-                        if (this.replicateTime >= time) {
+                        if (this.replicateTime >= plan.getTime()) {
                             this.replicateTime = 0;
-                            this.replicateItem(internalPatternStorage, newItem);
-                            MatterOverdrive.packetPipeline.sendToDimention(new PacketReplicationComplete(this), worldObj);
+                            this.replicateItem(internalPatternStorage, plan);
+                            MatterOverdrive.packetPipeline.sendToAllAround(new PacketReplicationComplete(this), this, REPLICATION_NOTIFY_RANGE);
                             SoundHandler.PlaySoundAt(worldObj, "replicate_success", this.xCoord, this.yCoord, this.zCoord, 0.25F * getBlockType(BlockReplicator.class).replication_volume, 1.0F, 0.2F, 0.8F);
                         }
                         if (timeTracker.hasDelayPassed(worldObj, RADIATION_DAMAGE_DELAY)) {
                             manageRadiation();
                         }
 
-                        replicateProgress = (float) replicateTime / (float) time;
+                        replicateProgress = (float) replicateTime / (float) plan.getTime();
                     }
                 } else {
                     taskQueueProcessing.dequeue();
@@ -189,19 +190,19 @@ public class TileEntityMachineReplicator extends MOTileEntityMachineMatter imple
         }
     }
 
-    private void replicateItem(ItemPattern itemPattern, ItemStack newItem) {
+    private void replicateItem(ItemPattern itemPattern, ReplicationPlan plan) {
         if (isActive()) {
-            int matterAmount = MatterHelper.getMatterAmountFromItem(newItem);
+            int matterAmount = plan.getMatterCost();
 
             float chance = random.nextFloat();
 
             if (chance < getFailChance(itemPattern)) {
-                if (failReplicate(MatterHelper.getMatterAmountFromItem(newItem))) {
+                if (failReplicate(matterAmount)) {
                     int matter = this.matterStorage.getMatterStored();
                     setMatterStored(matter - matterAmount);
                 }
             } else {
-                if (putInOutput(newItem)) {
+                if (putInOutput(plan.createOutput())) {
                     int matter = this.matterStorage.getMatterStored();
                     setMatterStored(matter - matterAmount);
                     MatterNetworkTaskReplicatePattern task = taskQueueProcessing.peek();
@@ -280,9 +281,9 @@ public class TileEntityMachineReplicator extends MOTileEntityMachineMatter imple
     @Override
     public boolean getServerActive() {
         if (getRedstoneActive() && taskQueueProcessing.size() > 0 && getInternalPatternStorage() != null && canCompleteTask()) {
-            ItemStack item = getInternalPatternStorage().toItemStack(false);
-            int matter = MatterHelper.getMatterAmountFromItem(item);
-            return this.getMatterStored() >= matter && canReplicateIntoOutput(item) && canReplicateIntoSecondOutput(matter);
+            ReplicationPlan plan = getPlan(taskQueueProcessing.peek());
+            int matter = plan.getMatterCost();
+            return this.getMatterStored() >= matter && canReplicateIntoOutput(plan.getOutput()) && canReplicateIntoSecondOutput(matter);
         }
         return false;
     }
@@ -294,7 +295,7 @@ public class TileEntityMachineReplicator extends MOTileEntityMachineMatter imple
             return;             //has full shielding
 
         AxisAlignedBB bb = AxisAlignedBB.getBoundingBox(xCoord - RADIATION_RANGE, yCoord - RADIATION_RANGE, zCoord - RADIATION_RANGE, xCoord + RADIATION_RANGE, yCoord + RADIATION_RANGE, zCoord + RADIATION_RANGE);
-        List entities = worldObj.getEntitiesWithinAABB(EntityLivingBase.class, bb);
+        List entities = MatterOverdrive.tickHandler.getEntityProximityHandler().getEntitiesWithinAABB(worldObj, EntityLivingBase.class, bb);
         for (Object e : entities) {
             if (e instanceof EntityLivingBase) {
                 EntityLivingBase l = (EntityLivingBase) e;
@@ -389,6 +390,16 @@ public class TileEntityMachineReplicator extends MOTileEntityMachineMatter imple
         forceSync();
         return s;
     }
+
+    @Override
+    public void markDirty() {
+        super.markDirty();
+        //upgrades may have changed, so the plan needs to be resolved again
+        MatterNetworkTaskReplicatePattern task = taskQueueProcessing.peek();
+        if (task != null) {
+            task.setPlan(null);
+        }
+    }
     //endregion
 
     //region Matter Network functions
@@ -530,16 +541,49 @@ public class TileEntityMachineReplicator extends MOTileEntityMachineMatter imple
     }
 
     public int getEnergyDrainPerTick() {
+        MatterNetworkTaskReplicatePattern task = taskQueueProcessing.peek();
+        if (task != null && task.getPlan() != null) {
+            return task.getPlan().getEnergyPerTick();
+        }
         int maxEnergy = getEnergyDrainMax();
         return maxEnergy / getSpeed(internalPatternStorage.toItemStack(false));
     }
 
     public int getEnergyDrainMax() {
-        int matter = MatterHelper.getMatterAmountFromItem(internalPatternStorage.toItemStack(false));
+        MatterNetworkTaskReplicatePattern task = taskQueueProcessing.peek();
+        if (task != null && task.getPlan() != null) {
+            return task.getPlan().getEnergyMax();
+        }
+        return getEnergyDrainMax(MatterHelper.getMatterAmountFromItem(internalPatternStorage.toItemStack(false)));
+    }
+
+    private int getEnergyDrainMax(int matter) {
         double upgradeMultiply = getUpgradeMultiply(UpgradeTypes.PowerUsage);
         return (int) Math.round((matter * REPLICATE_ENERGY_PER_MATTER) * upgradeMultiply);
     }
 
+    /**
+     * Resolves the output stack, matter cost, time and energy for a single copy of the task's pattern.
+     * Called once when the task is accepted, the result is stored in the task.
+     *
+     * @param task the replication task
+     * @return the resolved replication plan
+     */
+    public ReplicationPlan resolvePlan(MatterNetworkTaskReplicatePattern task) {
+        ItemStack output = task.getPattern().toItemStack(false);
+        int matter = MatterHelper.getMatterAmountFromItem(output);
+        ReplicationPlan plan = new ReplicationPlan(output, matter, getSpeed(output), getEnergyDrainMax(matter));
+        task.setPlan(plan);
+        return plan;
+    }
+
+    public ReplicationPlan getPlan(MatterNetworkTaskReplicatePattern task) {
+        if (task.getPlan() == null) {
+            return resolvePlan(task);
+        }
+        return task.getPlan();
+    }
+
     public boolean canCompleteTask(MatterNetworkTaskReplicatePattern taskReplicatePattern) {
         return taskReplicatePattern != null
                 && internalPatternStorage != null
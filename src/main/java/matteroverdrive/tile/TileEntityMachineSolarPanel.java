@@ -2,7 +2,8 @@ package matteroverdrive.tile;
 
 import cpw.mods.fml.relauncher.Side;
 import matteroverdrive.api.inventory.UpgradeTypes;
-import matteroverdrive.util.MOEnergyHelper;
+import matteroverdrive.util.TimeTracker;
+import matteroverdrive.world.DaylightCache;
 import net.minecraft.entity.EntityLivingBase;
 import net.minecraft.util.MathHelper;
 import net.minecraft.world.EnumSkyBlock;
@@ -13,8 +14,16 @@ public class TileEntityMachineSolarPanel extends MOTileEntityMachineEnergy {
     public static final int CHARGE_AMOUNT = 16;
     public static final int ENERGY_STORAGE = 64000;
     public static final int MAX_ENERGY_EXTRACT = 512;
+    /**
+     * How often the sky exposure is checked again, for blocks placed or removed higher up the column.
+     * Blocks placed right above the panel are noticed as a neighbour change.
+     */
+    public static final int SKY_CHECK_DELAY = 40;
 
     private byte chargeAmount;
+    private boolean skyExposed;
+    private boolean skyExposureDirty = true;
+    private final TimeTracker skyCheckTimer = new TimeTracker();
 
     public TileEntityMachineSolarPanel() {
         super(2);
@@ -56,58 +65,44 @@ public class TileEntityMachineSolarPanel extends MOTileEntityMachineEnergy {
 
     @Override
     public boolean getServerActive() {
-        if (!worldObj.provider.hasNoSky) {
-            int i1 = worldObj.getSavedLightValue(EnumSkyBlock.Sky, xCoord, yCoord, zCoord) - worldObj.skylightSubtracted;
-            float time = getTime();
-            if (i1 >= 15 && time > 0.5) {
-                return true;
-            }
-        }
-        return false;
+        return skyExposed && DaylightCache.get(worldObj).getDaylight() > 0.5;
     }
 
     public void manageExtract() {
         int energy = energyStorage.getEnergyStored();
 
         if (energy > 0) {
-            for (int i = 0; i < 6; i++) {
-                int energyToTransfer = Math.min(energy, MAX_ENERGY_EXTRACT);
-                if (energyToTransfer > 0) {
-                    energy -= MOEnergyHelper.insertEnergyIntoAdjacentEnergyReceiver(this, i, energyToTransfer, false);
-                }
-            }
-
+            energy -= adjacentEnergyReceivers.insertEnergy(energy, MAX_ENERGY_EXTRACT, 0, false);
             energyStorage.setEnergyStored(energy);
         }
     }
 
     public void manageChagrgeAmount() {
         if (!worldObj.isRemote) {
-            if (!worldObj.provider.hasNoSky) {
-                float f = 0;
-                int i1 = worldObj.getSavedLightValue(EnumSkyBlock.Sky, xCoord, yCoord, zCoord) - worldObj.skylightSubtracted;
-
-                if (i1 >= 15) {
-                    f = getTime();
-                }
-
-                chargeAmount = (byte) Math.round(CHARGE_AMOUNT * f);
+            manageSkyExposure();
+            if (skyExposed) {
+                chargeAmount = (byte) Math.round(CHARGE_AMOUNT * DaylightCache.get(worldObj).getDaylight());
             } else {
                 chargeAmount = 0;
             }
         }
     }
 
-    public float getTime() {
-        float f = worldObj.getCelestialAngleRadians(1.0F);
-
-        if (f < (float) Math.PI) {
-            f += (0.0F - f) * 0.2F;
-        } else {
-            f += (((float) Math.PI * 2F) - f) * 0.2F;
+    private void manageSkyExposure() {
+        if (skyExposureDirty || skyCheckTimer.hasDelayPassed(worldObj, SKY_CHECK_DELAY)) {
+            skyExposed = !worldObj.provider.hasNoSky && worldObj.getSavedLightValue(EnumSkyBlock.Sky, xCoord, yCoord, zCoord) >= 15;
+            skyExposureDirty = false;
         }
+    }
 
-        return (float) Math.cos(f);
+    @Override
+    public void onNeighborBlockChange() {
+        super.onNeighborBlockChange();
+        skyExposureDirty = true;
+    }
+
+    public float getTime() {
+        return DaylightCache.get(worldObj).getSunHeight();
     }
 
     public byte getChargeAmount() {
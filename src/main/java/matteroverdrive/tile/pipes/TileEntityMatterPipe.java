@@ -1,11 +1,13 @@
 package matteroverdrive.tile.pipes;
 
 import cpw.mods.fml.relauncher.Side;
+import matteroverdrive.MatterOverdrive;
 import matteroverdrive.api.transport.IPipe;
 import matteroverdrive.data.MatterStorage;
 import matteroverdrive.data.transport.FluidPipeNetwork;
 import matteroverdrive.data.transport.IFluidPipe;
 import matteroverdrive.fluids.FluidMatterPlasma;
+import matteroverdrive.handler.TickProfiler;
 import matteroverdrive.init.MatterOverdriveFluids;
 import matteroverdrive.machines.MachineNBTCategory;
 import matteroverdrive.util.FluidNetworkHelper;
@@ -21,7 +23,9 @@ import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.fluids.FluidTankInfo;
 import net.minecraftforge.fluids.IFluidHandler;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Random;
@@ -40,32 +44,45 @@ public class TileEntityMatterPipe extends TileEntityPipe implements IFluidPipe {
     }
 
     @Override
-    public void updateEntity() {
-        super.updateEntity();
-        if (!worldObj.isRemote) {
-            manageNetwork();
-            manageTransfer();
+    public void updatePipe() {
+        super.updatePipe();
+        long start = TickProfiler.start();
+        manageNetwork();
+        TickProfiler.end(TickProfiler.Section.PIPE_NETWORK, this, start);
+        if (getMatterStored() > 0) {
+            queueTransfer();
         }
     }
 
+    /**
+     * Joins the largest network of this pipe and its neighbours, and moves all the connected pipes into it.
+     * As pipes don't tick, the whole connected group is joined at once instead of one pipe per tick.
+     */
     public void manageNetwork() {
-        if (fluidPipeNetwork == null) {
-            FluidNetworkHelper.getFluidPipeNetworkFromPool().addPipe(this);
+        FluidPipeNetwork network = getNetwork();
+        for (IPipe<FluidPipeNetwork> connection : getConnections()) {
+            FluidPipeNetwork connectionNetwork = connection.getNetwork();
+            if (connectionNetwork != null && (network == null || network.getNetworkPipes().size() < connectionNetwork.getNetworkPipes().size())) {
+                network = connectionNetwork;
+            }
+        }
+        if (network == null) {
+            network = FluidNetworkHelper.getFluidPipeNetworkFromPool();
         }
 
-        FluidPipeNetwork lastNetwork = null;
-        for (ForgeDirection direction : ForgeDirection.VALID_DIRECTIONS) {
-            TileEntity tileEntity = worldObj.getTileEntity(xCoord + direction.offsetX, yCoord + direction.offsetY, zCoord + direction.offsetZ);
-            if (tileEntity instanceof IFluidPipe) {
-                if (lastNetwork == null || ((IFluidPipe) tileEntity).getNetwork() != null && lastNetwork.getNetworkPipes().size() < ((IFluidPipe) tileEntity).getNetwork().getNetworkPipes().size()) {
-                    lastNetwork = ((IFluidPipe) tileEntity).getNetwork();
+        Deque<IPipe<FluidPipeNetwork>> pipes = new ArrayDeque<>();
+        pipes.add(this);
+        while (!pipes.isEmpty()) {
+            IPipe<FluidPipeNetwork> pipe = pipes.poll();
+            if (pipe.getNetwork() != network && pipe instanceof IFluidPipe) {
+                network.addPipe((IFluidPipe) pipe);
+            }
+            for (IPipe<FluidPipeNetwork> connection : pipe.getConnections()) {
+                if (connection.getNetwork() != network) {
+                    pipes.add(connection);
                 }
             }
         }
-        if (lastNetwork != null && lastNetwork != getNetwork()) {
-            lastNetwork.addPipe(this);
-            //MatterOverdrive.log.info("Matter Pipe Added to network");
-        }
     }
 
     public void manageTransfer() {
@@ -123,7 +140,11 @@ public class TileEntityMatterPipe extends TileEntityPipe implements IFluidPipe {
 
     @Override
     public int receiveMatter(ForgeDirection side, int amount, boolean simulate) {
-        return storage.receiveMatter(side, amount, simulate);
+        int received = storage.receiveMatter(side, amount, simulate);
+        if (received > 0 && !simulate) {
+            queueTransfer();
+        }
+        return received;
     }
 
     @Override
@@ -161,7 +182,17 @@ public class TileEntityMatterPipe extends TileEntityPipe implements IFluidPipe {
 
     @Override
     public int fill(ForgeDirection from, FluidStack resource, boolean doFill) {
-        return storage.fill(resource, doFill);
+        int filled = storage.fill(resource, doFill);
+        if (filled > 0 && doFill) {
+            queueTransfer();
+        }
+        return filled;
+    }
+
+    protected void queueTransfer() {
+        if (worldObj != null && !worldObj.isRemote) {
+            MatterOverdrive.tickHandler.getPipeUpdateHandler().queueTransfer(this);
+        }
     }
 
     @Override
@@ -207,6 +238,10 @@ public class TileEntityMatterPipe extends TileEntityPipe implements IFluidPipe {
     @Override
     public void setNetwork(FluidPipeNetwork network) {
         this.fluidPipeNetwork = network;
+        if (network == null && !isInvalid()) {
+            //the network was invalidated, so the pipe has to find a new one
+            queueUpdate();
+        }
     }
 
 
@@ -18,6 +18,7 @@ import net.minecraftforge.common.util.ForgeDirection;
 import java.util.EnumSet;
 
 public class TileEntityNetworkPipe extends TileEntityPipe implements IMatterNetworkCable, IMatterNetworkConnection {
+    private long networkStamp;
 
     @Override
     public boolean canConnectTo(TileEntity entity, ForgeDirection direction) {
@@ -91,6 +92,16 @@ public class TileEntityNetworkPipe extends TileEntityPipe implements IMatterNetw
         return MOMathHelper.getBoolean(getConnectionsMask(), side.ordinal());
     }
 
+    @Override
+    public long getNetworkStamp() {
+        return networkStamp;
+    }
+
+    @Override
+    public void setNetworkStamp(long stamp) {
+        this.networkStamp = stamp;
+    }
+
     @Override
     public void updateSides(boolean notify) {
         int connections = 0;
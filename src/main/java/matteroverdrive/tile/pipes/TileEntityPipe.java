@@ -2,6 +2,7 @@ package matteroverdrive.tile.pipes;
 
 import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
+import matteroverdrive.MatterOverdrive;
 import matteroverdrive.tile.MOTileEntity;
 import matteroverdrive.util.math.MOMathHelper;
 import net.minecraft.nbt.NBTTagCompound;
@@ -12,14 +13,21 @@ import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.AxisAlignedBB;
 import net.minecraftforge.common.util.ForgeDirection;
 
+/**
+ * Pipes are not ticked. The server recalculates their connections through the {@link matteroverdrive.handler.PipeUpdateHandler}
+ * when they are loaded or a neighbour changes, and only sends them to the clients when they changed.
+ */
 public abstract class TileEntityPipe<T extends TileEntity> extends MOTileEntity {
-    private boolean needsUpdate = true;
     private int connections = 0;
 
     @Override
     public void onDataPacket(NetworkManager net, S35PacketUpdateTileEntity pkt) {
-        connections = pkt.func_148857_g().getInteger("Connections");
-        worldObj.markBlockRangeForRenderUpdate(xCoord, yCoord, zCoord, xCoord, yCoord, zCoord);
+        int connections = pkt.func_148857_g().getInteger("Connections");
+        //pipes are baked into the chunk render lists, so the chunk is only rendered again when the connections changed
+        if (this.connections != connections) {
+            this.connections = connections;
+            worldObj.markBlockRangeForRenderUpdate(xCoord, yCoord, zCoord, xCoord, yCoord, zCoord);
+        }
     }
 
     @Override
@@ -30,11 +38,33 @@ public abstract class TileEntityPipe<T extends TileEntity> extends MOTileEntity
     }
 
     @Override
-    public void updateEntity() {
-        if (needsUpdate) {
-            updateSides(true);
-            needsUpdate = false;
-        }
+    public boolean canUpdate() {
+        return false;
+    }
+
+    @Override
+    public void validate() {
+        super.validate();
+        queueUpdate();
+    }
+
+    @Override
+    public void invalidate() {
+        super.invalidate();
+        dequeue();
+    }
+
+    @Override
+    public void onChunkUnload() {
+        super.onChunkUnload();
+        dequeue();
+    }
+
+    /**
+     * Called by the {@link matteroverdrive.handler.PipeUpdateHandler} for queued pipes.
+     */
+    public void updatePipe() {
+        updateSides(true);
     }
 
     public void updateSides(boolean notify) {
@@ -56,14 +86,26 @@ public abstract class TileEntityPipe<T extends TileEntity> extends MOTileEntity
     }
 
     public void setConnections(int connections, boolean notify) {
-        this.connections = connections;
-        worldObj.markBlockForUpdate(xCoord, yCoord, zCoord);
+        if (this.connections != connections) {
+            this.connections = connections;
+            if (notify) {
+                worldObj.markBlockForUpdate(xCoord, yCoord, zCoord);
+            }
+        }
     }
 
     public abstract boolean canConnectTo(TileEntity entity, ForgeDirection direction);
 
     public void queueUpdate() {
-        needsUpdate = true;
+        if (worldObj != null && !worldObj.isRemote) {
+            MatterOverdrive.tickHandler.getPipeUpdateHandler().queueUpdate(this);
+        }
+    }
+
+    private void dequeue() {
+        if (worldObj != null && !worldObj.isRemote) {
+            MatterOverdrive.tickHandler.getPipeUpdateHandler().remove(this);
+        }
     }
 
     public boolean isConnectableSide(ForgeDirection dir) {
@@ -0,0 +1,110 @@
+package matteroverdrive.util;
+
+import net.minecraft.entity.Entity;
+import net.minecraft.util.AxisAlignedBB;
+import net.minecraft.world.World;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Buckets the entities of a world into cells by the center of their bounding box.
+ * Queries are expanded by the largest half size of an indexed entity, so each entity is stored in a single cell.
+ * Queries check the current bounding box of the entities, so entities that moved since the index was built
+ * are only missed if they left the cells around their indexed position.
+ *
+ * @param <T> the type of the indexed entities.
+ */
+public class EntityIndex<T extends Entity> {
+    private static final int CELL_SHIFT = 3;
+    private final Class<T> type;
+    private final Map<Long, List<T>> cells = new HashMap<>();
+    private final List<T> result = new ArrayList<>();
+    private double margin;
+
+    public EntityIndex(Class<T> type) {
+        this.type = type;
+    }
+
+    public void build(World world) {
+        clear();
+        for (int i = 0; i < world.loadedEntityList.size(); i++) {
+            Object entity = world.loadedEntityList.get(i);
+            if (type.isInstance(entity)) {
+                T typedEntity = type.cast(entity);
+                AxisAlignedBB bounds = typedEntity.boundingBox;
+                long key = getKey(getCell((bounds.minX + bounds.maxX) / 2), getCell((bounds.minY + bounds.maxY) / 2), getCell((bounds.minZ + bounds.maxZ) / 2));
+                List<T> cell = cells.get(key);
+                if (cell == null) {
+                    cell = new ArrayList<>(4);
+                    cells.put(key, cell);
+                }
+                cell.add(typedEntity);
+                margin = Math.max(margin, Math.max(bounds.maxX - bounds.minX, Math.max(bounds.maxY - bounds.minY, bounds.maxZ - bounds.minZ)) / 2);
+            }
+        }
+    }
+
+    public void clear() {
+        cells.clear();
+        result.clear();
+        margin = 0;
+    }
+
+    /**
+     * Drops the entities of the last query, so the index does not keep them until the next one.
+     */
+    public void clearResult() {
+        result.clear();
+    }
+
+    /**
+     * @param box the search box.
+     * @return the entities whose bounding box intersects the search box.
+     * The list is reused by the next query, so it must not be kept. Call {@link #clearResult()} once done with it.
+     */
+    public List<T> query(AxisAlignedBB box) {
+        result.clear();
+        int minX = getCell(box.minX - margin), minY = getCell(box.minY - margin), minZ = getCell(box.minZ - margin);
+        int maxX = getCell(box.maxX + margin), maxY = getCell(box.maxY + margin), maxZ = getCell(box.maxZ + margin);
+        long cellCount = (long) (maxX - minX + 1) * (maxY - minY + 1) * (maxZ - minZ + 1);
+
+        if (cellCount > cells.size()) {
+            //the box covers more cells than there are filled ones, so checking the filled cells is cheaper
+            for (List<T> cell : cells.values()) {
+                collect(cell, box);
+            }
+        } else {
+            for (int x = minX; x <= maxX; x++) {
+                for (int y = minY; y <= maxY; y++) {
+                    for (int z = minZ; z <= maxZ; z++) {
+                        List<T> cell = cells.get(getKey(x, y, z));
+                        if (cell != null) {
+                            collect(cell, box);
+                        }
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    private void collect(List<T> cell, AxisAlignedBB box) {
+        for (int i = 0; i < cell.size(); i++) {
+            T entity = cell.get(i);
+            if (!entity.isDead && entity.boundingBox.intersectsWith(box)) {
+                result.add(entity);
+            }
+        }
+    }
+
+    private static int getCell(double coordinate) {
+        return (int) Math.floor(coordinate) >> CELL_SHIFT;
+    }
+
+    private static long getKey(int x, int y, int z) {
+        return ((long) x & 0x3FFFFFF) << 38 | ((long) z & 0x3FFFFFF) << 12 | ((long) y & 0xFFF);
+    }
+}
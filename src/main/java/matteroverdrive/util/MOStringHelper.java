@@ -69,6 +69,10 @@ public class MOStringHelper {
         return StatCollector.translateToLocal(string);
     }
 
+    public static String translateToLocalFormatted(String string, Object... args) {
+        return StatCollector.translateToLocalFormatted(string, args);
+    }
+
     public static String translateToLocal(UpgradeTypes type) {
         return StatCollector.translateToLocal("upgradetype." + type.name() + ".name");
     }
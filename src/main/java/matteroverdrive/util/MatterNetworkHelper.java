@@ -19,6 +19,10 @@ public class MatterNetworkHelper {
     public static boolean broadcastPacketInDirection(World world, MatterNetworkPacket packet, IMatterNetworkConnection source, ForgeDirection direction) {
         //if the source connection can connect From Side
         if (source.canConnectFromSide(direction)) {
+            if (!(source instanceof IMatterNetworkCable)) {
+                //every broadcast from a client is a new pass trough the network
+                packet.beginBroadcast();
+            }
             BlockPos position = source.getPosition().step(direction);
             if (world.getChunkProvider().chunkExists(position.x >> 4, position.z >> 4)) {
                 ForgeDirection oppositeDirection = direction.getOpposite();
@@ -32,12 +36,14 @@ public class MatterNetworkHelper {
                             //if the connection is a cable
                             IMatterNetworkCable cable = (IMatterNetworkCable) connection;
                             if (cable.isValid()) {
+                                packet.stamp(cable);
                                 cable.broadcast(packet, direction);
                                 return true;
                             }
                         } else if (connection instanceof IMatterNetworkClient) {
                             //if the connection is a client
                             IMatterNetworkClient c = (IMatterNetworkClient) connection;
+                            packet.stamp(c);
                             if (c.canPreform(packet)) {
                                 c.queuePacket(packet, oppositeDirection);
                                 return true;
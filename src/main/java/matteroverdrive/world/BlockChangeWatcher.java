@@ -0,0 +1,142 @@
+package matteroverdrive.world;
+
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.world.IWorldAccess;
+import net.minecraft.world.World;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Notifies listeners when the blocks at the positions they depend on change.
+ * Added to each server world as a world access, so it sees every block change that is sent to the clients.
+ */
+public class BlockChangeWatcher implements IWorldAccess {
+    private final World world;
+    private final Map<Long, List<IBlockChangeListener>> listeners = new HashMap<>();
+    private final Map<IBlockChangeListener, List<Long>> watchedPositions = new HashMap<>();
+
+    public BlockChangeWatcher(World world) {
+        this.world = world;
+    }
+
+    public void watch(IBlockChangeListener listener, int x, int y, int z) {
+        long key = getKey(x, y, z);
+        List<IBlockChangeListener> positionListeners = listeners.get(key);
+        if (positionListeners == null) {
+            positionListeners = new ArrayList<>(1);
+            listeners.put(key, positionListeners);
+        }
+        if (!positionListeners.contains(listener)) {
+            positionListeners.add(listener);
+            List<Long> positions = watchedPositions.get(listener);
+            if (positions == null) {
+                positions = new ArrayList<>();
+                watchedPositions.put(listener, positions);
+            }
+            positions.add(key);
+        }
+    }
+
+    /**
+     * Stops notifying the listener of changes at any of its positions.
+     */
+    public void unwatch(IBlockChangeListener listener) {
+        List<Long> positions = watchedPositions.remove(listener);
+        if (positions != null) {
+            for (Long key : positions) {
+                List<IBlockChangeListener> positionListeners = listeners.get(key);
+                if (positionListeners != null) {
+                    positionListeners.remove(listener);
+                    if (positionListeners.isEmpty()) {
+                        listeners.remove(key);
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    public void markBlockForUpdate(int x, int y, int z) {
+        if (listeners.isEmpty()) {
+            return;
+        }
+
+        List<IBlockChangeListener> positionListeners = listeners.get(getKey(x, y, z));
+        if (positionListeners != null) {
+            //listeners may unwatch while being notified
+            for (IBlockChangeListener listener : positionListeners.toArray(new IBlockChangeListener[positionListeners.size()])) {
+                listener.onBlockChanged(world, x, y, z);
+            }
+        }
+    }
+
+    public static long getKey(int x, int y, int z) {
+        return ((long) x & 0x3FFFFFF) << 38 | ((long) z & 0x3FFFFFF) << 12 | ((long) y & 0xFFF);
+    }
+
+    //region Unused World Access
+    @Override
+    public void markBlockForRenderUpdate(int x, int y, int z) {
+
+    }
+
+    @Override
+    public void markBlockRangeForRenderUpdate(int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+
+    }
+
+    @Override
+    public void playSound(String sound, double x, double y, double z, float volume, float pitch) {
+
+    }
+
+    @Override
+    public void playSoundToNearExcept(EntityPlayer player, String sound, double x, double y, double z, float volume, float pitch) {
+
+    }
+
+    @Override
+    public void spawnParticle(String particle, double x, double y, double z, double motionX, double motionY, double motionZ) {
+
+    }
+
+    @Override
+    public void onEntityCreate(Entity entity) {
+
+    }
+
+    @Override
+    public void onEntityDestroy(Entity entity) {
+
+    }
+
+    @Override
+    public void playRecord(String record, int x, int y, int z) {
+
+    }
+
+    @Override
+    public void broadcastSound(int soundID, int x, int y, int z, int data) {
+
+    }
+
+    @Override
+    public void playAuxSFX(EntityPlayer player, int type, int x, int y, int z, int data) {
+
+    }
+
+    @Override
+    public void destroyBlockPartially(int breakerID, int x, int y, int z, int progress) {
+
+    }
+
+    @Override
+    public void onStaticEntitiesChanged() {
+
+    }
+    //endregion
+}
@@ -0,0 +1,151 @@
+package matteroverdrive.world;
+
+import net.minecraft.block.Block;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.init.Blocks;
+import net.minecraft.network.play.server.S21PacketChunkData;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Places the blocks of an image gen layer straight into the chunk sections.
+ * Only chunks fully covered by the layer are written directly, and only blocks that don't have a tile entity,
+ * before or after. Everything else goes through {@link World#setBlock(int, int, int, Block, int, int)}.
+ * The block callbacks of {@link Chunk#func_150807_a(int, int, int, Block, int)} are kept, so the placed blocks
+ * are the same as with per block placement. Height maps and client updates are done once per chunk in {@link #finish()},
+ * and only the blocks that changed their light value or opacity are relit there.
+ */
+public class BulkBlockPlacer {
+    private final World world;
+    private final int placeNotify;
+    private final int minChunkX, minChunkZ, maxChunkX, maxChunkZ;
+    private final Map<Chunk, Integer> changedSections;
+    private final List<int[]> lightChanges;
+
+    /**
+     * @param world       the world.
+     * @param minX        the min X of the layer.
+     * @param minZ        the min Z of the layer.
+     * @param maxX        the max X of the layer, inclusive.
+     * @param maxZ        the max Z of the layer, inclusive.
+     * @param placeNotify the block place flags.
+     */
+    public BulkBlockPlacer(World world, int minX, int minZ, int maxX, int maxZ, int placeNotify) {
+        this.world = world;
+        this.placeNotify = placeNotify;
+        //only the chunks that have all their columns in the layer
+        this.minChunkX = (minX + 15) >> 4;
+        this.minChunkZ = (minZ + 15) >> 4;
+        this.maxChunkX = ((maxX + 1) >> 4) - 1;
+        this.maxChunkZ = ((maxZ + 1) >> 4) - 1;
+        this.changedSections = new HashMap<>();
+        this.lightChanges = new ArrayList<>();
+    }
+
+    /**
+     * Bulk placement notifies no neighbours, so it's only used when the flags don't ask for it.
+     *
+     * @param world       the world.
+     * @param placeNotify the block place flags.
+     * @return can blocks be placed directly into the chunk sections.
+     */
+    public static boolean canPlaceInBulk(World world, int placeNotify) {
+        return !world.isRemote && (placeNotify & 1) == 0;
+    }
+
+    public boolean setBlock(int x, int y, int z, Block block, int meta) {
+        int chunkX = x >> 4;
+        int chunkZ = z >> 4;
+        if (y < 0 || y >= 256 || chunkX < minChunkX || chunkX > maxChunkX || chunkZ < minChunkZ || chunkZ > maxChunkZ) {
+            return world.setBlock(x, y, z, block, meta, placeNotify);
+        }
+
+        Chunk chunk = world.getChunkFromChunkCoords(chunkX, chunkZ);
+        int localX = x & 15;
+        int localZ = z & 15;
+        Block oldBlock = chunk.getBlock(localX, y, localZ);
+        int oldMeta = chunk.getBlockMetadata(localX, y, localZ);
+        if (oldBlock.hasTileEntity(oldMeta) || block.hasTileEntity(meta)) {
+            return world.setBlock(x, y, z, block, meta, placeNotify);
+        }
+
+        if (oldBlock == block && oldMeta == meta) {
+            return false;
+        }
+
+        ExtendedBlockStorage storage = chunk.getBlockStorageArray()[y >> 4];
+        if (storage == null) {
+            if (block == Blocks.air) {
+                return false;
+            }
+            storage = new ExtendedBlockStorage(y >> 4 << 4, !world.provider.hasNoSky);
+            chunk.getBlockStorageArray()[y >> 4] = storage;
+        }
+
+        int oldLight = oldBlock.getLightValue(world, x, y, z);
+        int oldOpacity = oldBlock.getLightOpacity(world, x, y, z);
+        oldBlock.onBlockPreDestroy(world, x, y, z, oldMeta);
+        storage.func_150818_a(localX, y & 15, localZ, block);
+        storage.setExtBlockMetadata(localX, y & 15, localZ, meta);
+        oldBlock.breakBlock(world, x, y, z, oldBlock, oldMeta);
+        if (storage.getBlockByExtId(localX, y & 15, localZ) != block) {
+            return false;
+        }
+
+        block.onBlockAdded(world, x, y, z);
+        chunk.isModified = true;
+
+        Integer sections = changedSections.get(chunk);
+        changedSections.put(chunk, (sections != null ? sections : 0) | 1 << (y >> 4));
+        //blocks that changed how much light they give off or let through are relit, for both sky and block light
+        if (oldLight != block.getLightValue(world, x, y, z) || oldOpacity != block.getLightOpacity(world, x, y, z)) {
+            lightChanges.add(new int[]{x, y, z});
+        }
+        return true;
+    }
+
+    /**
+     * Relights the changed blocks and, if the place flags ask for it, sends the changed sections to the players watching them.
+     */
+    public void finish() {
+        for (Map.Entry<Chunk, Integer> entry : changedSections.entrySet()) {
+            Chunk chunk = entry.getKey();
+            chunk.generateSkylightMap();
+            Arrays.fill(chunk.precipitationHeightMap, -999);
+        }
+
+        for (int[] pos : lightChanges) {
+            world.func_147451_t(pos[0], pos[1], pos[2]);
+        }
+
+        if ((placeNotify & 2) != 0 && world instanceof WorldServer) {
+            for (Map.Entry<Chunk, Integer> entry : changedSections.entrySet()) {
+                resyncChunk((WorldServer) world, entry.getKey(), entry.getValue());
+            }
+        }
+
+        changedSections.clear();
+        lightChanges.clear();
+    }
+
+    private void resyncChunk(WorldServer world, Chunk chunk, int sections) {
+        S21PacketChunkData packet = null;
+        for (Object p : world.playerEntities) {
+            EntityPlayerMP player = (EntityPlayerMP) p;
+            if (world.getPlayerManager().isPlayerWatchingChunk(player, chunk.xPosition, chunk.zPosition)) {
+                if (packet == null) {
+                    packet = new S21PacketChunkData(chunk, false, sections);
+                }
+                player.playerNetServerHandler.sendPacket(packet);
+            }
+        }
+    }
+}
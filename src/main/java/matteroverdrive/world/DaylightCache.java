@@ -0,0 +1,61 @@
+package matteroverdrive.world;
+
+import net.minecraft.world.World;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * The time of day of a world, computed once per world tick and shared by everything that depends on the sun.
+ * Only used from the server thread.
+ */
+public class DaylightCache {
+    private static final Map<World, DaylightCache> caches = new WeakHashMap<>();
+    private long worldTime = Long.MIN_VALUE;
+    private float sunHeight;
+    private int skylightSubtracted;
+
+    public static DaylightCache get(World world) {
+        DaylightCache cache = caches.get(world);
+        if (cache == null) {
+            cache = new DaylightCache();
+            caches.put(world, cache);
+        }
+        cache.update(world);
+        return cache;
+    }
+
+    private void update(World world) {
+        long time = world.getTotalWorldTime();
+        if (time != worldTime) {
+            worldTime = time;
+            skylightSubtracted = world.skylightSubtracted;
+
+            float f = world.getCelestialAngleRadians(1.0F);
+            if (f < (float) Math.PI) {
+                f += (0.0F - f) * 0.2F;
+            } else {
+                f += (((float) Math.PI * 2F) - f) * 0.2F;
+            }
+            sunHeight = (float) Math.cos(f);
+        }
+    }
+
+    /**
+     * @return the height of the sun, from 1 at noon to -1 at midnight.
+     */
+    public float getSunHeight() {
+        return sunHeight;
+    }
+
+    public int getSkylightSubtracted() {
+        return skylightSubtracted;
+    }
+
+    /**
+     * @return the sun height for a block that gets full sky light, or 0 while the sky light is dimmed.
+     */
+    public float getDaylight() {
+        return skylightSubtracted <= 0 ? sunHeight : 0;
+    }
+}
@@ -0,0 +1,18 @@
+package matteroverdrive.world;
+
+import net.minecraft.world.World;
+
+/**
+ * Listens for block changes at the positions it registered with a {@link BlockChangeWatcher}.
+ */
+public interface IBlockChangeListener {
+    /**
+     * Called when the block or metadata at one of the watched positions changes.
+     *
+     * @param world the world.
+     * @param x     the X coordinate of the changed block.
+     * @param y     the Y coordinate of the changed block.
+     * @param z     the Z coordinate of the changed block.
+     */
+    void onBlockChanged(World world, int x, int y, int z);
+}
@@ -28,6 +28,15 @@ public abstract class MOImageGen {
     protected final int layerWidth;
     protected final int layerHeight;
     protected final Random localRandom;
+    /**
+     * The distinct colors of the layers that have a block mapping.
+     */
+    private int[] paletteColors;
+    /**
+     * The layers as indexes into the palette, by {@code x * layerHeight + z}. Colors without a mapping are -1.
+     */
+    private short[][] compiledLayers;
+    private BulkBlockPlacer bulkBlockPlacer;
 
     public MOImageGen(ResourceLocation texture, int layerWidth, int layerHeight) {
         localRandom = new Random();
@@ -55,10 +64,20 @@ public abstract class MOImageGen {
         }
         //warn("%s", unname);
         int meta = getMetaFromColor(color, random);
-        world.setBlock(x, y, z, block, meta, placeNotify);
+        setBlock(world, x, y, z, block, meta, placeNotify);
         onBlockPlace(world, block, x, y, z, random, color);
     }
 
+    /**
+     * Places the block directly into the chunk section while a layer is generated in bulk, or with {@link World#setBlock(int, int, int, Block, int, int)}.
+     */
+    protected boolean setBlock(World world, int x, int y, int z, Block block, int meta, int placeNotify) {
+        if (bulkBlockPlacer != null) {
+            return bulkBlockPlacer.setBlock(x, y, z, block, meta);
+        }
+        return world.setBlock(x, y, z, block, meta, placeNotify);
+    }
+
     public abstract void onBlockPlace(World world, Block block, int x, int y, int z, Random random, int color);
 
     public Block getBlockFromColor(int color, Random random) {
@@ -78,8 +97,63 @@ public abstract class MOImageGen {
             for (BlockMapping blockMapping : blockMap.values()) {
                 blockMapping.reset(localRandom);
             }
-            generateFromImage(world, random, startX, Math.min(startY, world.getHeight() - layerCount), startZ, layers, layer, placeNotify);
+            if (compiledLayers == null) {
+                compileLayers();
+            }
+
+            startY = Math.min(startY, world.getHeight() - layerCount);
+            if (BulkBlockPlacer.canPlaceInBulk(world, placeNotify)) {
+                bulkBlockPlacer = new BulkBlockPlacer(world, startX, startZ, startX + layerWidth - 1, startZ + layerHeight - 1, placeNotify);
+            }
+            try {
+                short[] compiledLayer = compiledLayers[layer];
+                for (int x = 0; x < layerWidth; x++) {
+                    for (int z = 0; z < layerHeight; z++) {
+                        short index = compiledLayer[x * layerHeight + z];
+                        //colors without a mapping place nothing
+                        if (index >= 0) {
+                            placeBlock(world, paletteColors[index], startX + x, startY + layer, startZ + z, layer, random, placeNotify);
+                        }
+                    }
+                }
+            } finally {
+                if (bulkBlockPlacer != null) {
+                    bulkBlockPlacer.finish();
+                    bulkBlockPlacer = null;
+                }
+            }
+        }
+    }
+
+    private void compileLayers() {
+        Map<Integer, Short> paletteIndexes = new HashMap<>();
+        List<Integer> colors = new ArrayList<>();
+        short[][] compiled = new short[layers.size()][];
+        for (int layer = 0; layer < layers.size(); layer++) {
+            int[][] layerColors = layers.get(layer);
+            compiled[layer] = new short[layerWidth * layerHeight];
+            for (int x = 0; x < layerWidth; x++) {
+                for (int z = 0; z < layerHeight; z++) {
+                    int color = layerColors[x][z];
+                    Short index = -1;
+                    if (blockMap.containsKey(color & 0xffffff)) {
+                        index = paletteIndexes.get(color);
+                        if (index == null) {
+                            index = (short) colors.size();
+                            paletteIndexes.put(color, index);
+                            colors.add(color);
+                        }
+                    }
+                    compiled[layer][x * layerHeight + z] = index;
+                }
+            }
+        }
+
+        paletteColors = new int[colors.size()];
+        for (int i = 0; i < paletteColors.length; i++) {
+            paletteColors[i] = colors.get(i);
         }
+        compiledLayers = compiled;
     }
 
     public void generateFromImage(World world, Random random, int startX, int startY, int startZ, List<int[][]> layers, int layer, int placeNotify) {
@@ -167,6 +241,7 @@ public abstract class MOImageGen {
                 layers.add(new int[layerWidth][layerHeight]);
             }
             convertTo2DWithoutUsingGetRGB(image, layerWidth, layerHeight, textureWidth, layers);
+            compiledLayers = null;
         } catch (IOException e) {
             e.printStackTrace();
         }
@@ -261,6 +336,7 @@ public abstract class MOImageGen {
 
     public void rotateByNinetyToLeft() {
         layers.forEach(MOImageGen::rotateByNinetyToLeft);
+        compiledLayers = null;
     }
 
     public int getRedFromColor(int color) {
@@ -312,6 +388,7 @@ public abstract class MOImageGen {
 
     public void addMapping(int color, BlockMapping blockMapping) {
         blockMap.put(color, blockMapping);
+        compiledLayers = null;
     }
 
     public BlockMapping getMapping(int color) {
@@ -320,6 +397,7 @@ public abstract class MOImageGen {
 
     public void setTexture(ResourceLocation textureLocation) {
         this.texture = textureLocation;
+        this.compiledLayers = null;
         if (layers == null)
             layers = new ArrayList<>();
         else
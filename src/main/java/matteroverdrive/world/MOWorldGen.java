@@ -3,10 +3,13 @@ package matteroverdrive.world;
 import cpw.mods.fml.common.IWorldGenerator;
 import cpw.mods.fml.common.gameevent.TickEvent;
 import matteroverdrive.Reference;
+import matteroverdrive.data.world.BuildingGenerationWorldData;
 import matteroverdrive.data.world.GenPositionWorldData;
 import matteroverdrive.handler.ConfigurationHandler;
+import matteroverdrive.handler.TickProfiler;
 import matteroverdrive.init.MatterOverdriveBlocks;
 import matteroverdrive.util.IConfigSubscriber;
+import matteroverdrive.util.MOLog;
 import net.minecraft.block.Block;
 import net.minecraft.world.World;
 import net.minecraft.world.chunk.IChunkProvider;
@@ -31,8 +34,12 @@ public class MOWorldGen implements IWorldGenerator, IConfigSubscriber {
     public static final int DILITHIUM_VEINS_PER_CHUNK = 2;
     public static final int DILITHIUM_VEIN_SIZE = 3;
     public List<WeightedRandomMOWorldGenBuilding> buildings;
-    public Queue<MOWorldGenBuilding.WorldGenBuildingWorker> worldGenBuildingQueue;
     HashSet<Integer> oreDimentionsBlacklist;
+    /**
+     * The time in nanoseconds buildings can take to generate each world tick.
+     */
+    long buildingGenerationBudget;
+    int maxQueuedBuildings;
 
     boolean generateTritanium;
     boolean generateDilithium;
@@ -44,7 +51,6 @@ public class MOWorldGen implements IWorldGenerator, IConfigSubscriber {
         anomaliesRandom = new Random();
         buildingsRandom = new Random();
         buildings = new ArrayList<>();
-        worldGenBuildingQueue = new ArrayDeque<>();
 
         tritaniumGen = new WorldGenMinable(MatterOverdriveBlocks.tritaniumOre, TRITANIUM_VEIN_SIZE);
         dilithiumGen = new WorldGenMinable(MatterOverdriveBlocks.dilithiumOre, DILITHIUM_VEIN_SIZE);
@@ -164,23 +170,82 @@ public class MOWorldGen implements IWorldGenerator, IConfigSubscriber {
 
     public MOWorldGenBuilding.WorldGenBuildingWorker startBuildingGeneration(MOWorldGenBuilding building, int x, int y, int z, Random random, World world, IChunkProvider chunkGenerator, IChunkProvider chunkProvider, boolean forceGeneration) {
         if (building != null && (forceGeneration || (building.shouldGenerate(random, world, x, y, z) && building.isLocationValid(world, x, y, z)))) {
+            BuildingGenerationWorldData generationData = getBuildingGenerationData(world);
+            if (!forceGeneration && generationData.getWorkerCount() >= maxQueuedBuildings) {
+                MOLog.debug("Skipped %s at %s, %s, %s, as there are already %s buildings being generated", building.getName(), x, y, z, maxQueuedBuildings);
+                return null;
+            }
+
             MOWorldGenBuilding.WorldGenBuildingWorker worker = building.createWorker(random, x, y, z, world, chunkGenerator, chunkProvider);
-            worldGenBuildingQueue.add(worker);
+            generationData.addWorker(worker);
             return worker;
         }
         return null;
     }
 
+    /**
+     * Generates the layers of the buildings queued in the world, until the time budget for the tick runs out.
+     * Each pass generates one layer of every building whose chunks are loaded, so several buildings progress together.
+     * At least one layer is generated each tick, no matter the budget.
+     *
+     * @param worldTickEvent the world tick event.
+     */
     public void manageBuildingGeneration(TickEvent.WorldTickEvent worldTickEvent) {
-        MOWorldGenBuilding.WorldGenBuildingWorker worker = worldGenBuildingQueue.peek();
-        if (worker != null) {
-            if (worker.generate()) {
-                worldGenBuildingQueue.remove();
-                return;
+        if (worldTickEvent.phase != TickEvent.Phase.END) {
+            return;
+        }
+
+        BuildingGenerationWorldData generationData = getBuildingGenerationData(worldTickEvent.world);
+        List<MOWorldGenBuilding.WorldGenBuildingWorker> workers = generationData.getWorkers(worldTickEvent.world, this);
+        if (workers.isEmpty()) {
+            return;
+        }
+
+        long profilerStart = TickProfiler.start();
+        try {
+            generateQueuedBuildings(generationData, workers);
+        } finally {
+            TickProfiler.end(TickProfiler.Section.BUILDING_GENERATION, profilerStart);
+        }
+    }
+
+    private void generateQueuedBuildings(BuildingGenerationWorldData generationData, List<MOWorldGenBuilding.WorldGenBuildingWorker> workers) {
+        long deadline = System.nanoTime() + buildingGenerationBudget;
+        boolean generated = true;
+        while (generated && !workers.isEmpty()) {
+            generated = false;
+            for (int i = 0; i < workers.size(); i++) {
+                MOWorldGenBuilding.WorldGenBuildingWorker worker = workers.get(i);
+                if (!worker.isAreaLoaded()) {
+                    continue;
+                }
+
+                boolean finished = worker.generate();
+                if (finished || worker.hasFailed()) {
+                    workers.remove(i--);
+                }
+                //a failed worker is dropped, and not counted as progress
+                if (!worker.hasFailed()) {
+                    generated = true;
+                }
+                generationData.markDirty();
+
+                if (System.nanoTime() >= deadline) {
+                    return;
+                }
             }
         }
     }
 
+    public MOWorldGenBuilding getBuilding(String name) {
+        for (WeightedRandomMOWorldGenBuilding building : buildings) {
+            if (building.worldGenBuilding.getName().equals(name)) {
+                return building.worldGenBuilding;
+            }
+        }
+        return null;
+    }
+
     public WeightedRandomMOWorldGenBuilding getRandomBuilding(World world, int x, int y, int z, Random random) {
         return getBuilding(random, world, x, y, z, buildings, random.nextInt(getTotalBuildingsWeight(random, world, x, y, z, buildings)));
     }
@@ -232,6 +297,17 @@ public class MOWorldGen implements IWorldGenerator, IConfigSubscriber {
             this.oreDimentionsBlacklist.add(oreDimentionBlacklist[i]);
         }
         generateBuildings = config.getBool("generate buildings", ConfigurationHandler.CATEGORY_WORLD_GEN, true, "Should Matter Megadrive Buildings Generate aka ImageGen");
+        buildingGenerationBudget = config.getInt("building generation budget", ConfigurationHandler.CATEGORY_WORLD_GEN, 5, "The time in milliseconds buildings can take to generate each world tick. At least one layer of a building is generated each tick.") * 1000000L;
+        maxQueuedBuildings = config.getInt("max queued buildings", ConfigurationHandler.CATEGORY_WORLD_GEN, 64, "The maximum amount of buildings being generated in a dimension. New buildings are skipped while the queue is full.");
+    }
+
+    public static BuildingGenerationWorldData getBuildingGenerationData(World world) {
+        BuildingGenerationWorldData data = (BuildingGenerationWorldData) world.perWorldStorage.loadData(BuildingGenerationWorldData.class, Reference.WORLD_DATA_MO_BUILDING_GENERATION);
+        if (data == null) {
+            data = new BuildingGenerationWorldData(Reference.WORLD_DATA_MO_BUILDING_GENERATION);
+            world.perWorldStorage.setData(Reference.WORLD_DATA_MO_BUILDING_GENERATION, data);
+        }
+        return data;
     }
 
     public static GenPositionWorldData getWorldPositionData(World world) {
@@ -6,6 +6,7 @@ import matteroverdrive.data.world.WorldPosition2D;
 import matteroverdrive.util.MOLog;
 import net.minecraft.block.Block;
 import net.minecraft.init.Blocks;
+import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.world.World;
 import net.minecraft.world.chunk.IChunkProvider;
@@ -110,6 +111,8 @@ public abstract class MOWorldGenBuilding extends MOImageGen implements IMOWorldG
     public WorldGenBuildingWorker createWorker(Random random, int x, int y, int z, World world, IChunkProvider chunkGenerator, IChunkProvider chunkProvider) {
         WorldGenBuildingWorker worldGenBuildingWorker = new WorldGenBuildingWorker(this, random, x, y, z, world, chunkGenerator, chunkProvider);
         onGenerationWorkerCreated(worldGenBuildingWorker);
+        //the offset can depend on the location, so each worker keeps its own
+        worldGenBuildingWorker.yOffset = getYOffset();
         GenPositionWorldData data = MOWorldGen.getWorldPositionData(world);
         data.addPosition(getName(), new WorldPosition2D(x + layerWidth / 2, z + layerHeight / 2));
         return worldGenBuildingWorker;
@@ -117,8 +120,14 @@ public abstract class MOWorldGenBuilding extends MOImageGen implements IMOWorldG
 
     public static class WorldGenBuildingWorker {
         int currentLayer;
+        /**
+         * Set when a layer threw, so the building is dropped instead of retrying the same layer.
+         */
+        boolean failed;
         Random random;
+        long seed;
         int x, y, z;
+        int yOffset;
         World world;
         IChunkProvider chunkGenerator;
         IChunkProvider chunkProvider;
@@ -138,34 +147,85 @@ public abstract class MOWorldGenBuilding extends MOImageGen implements IMOWorldG
             this.x = x;
             this.y = y;
             this.z = z;
-            this.random = random;
+            //the worker gets its own random, as the given one is usually shared by the world generator
+            this.seed = random.nextLong();
+            this.random = new Random(seed);
             this.world = world;
             this.chunkGenerator = chunkGenerator;
             this.chunkProvider = chunkProvider;
             this.placeNotify = this.worldGenBuilding.placeNotify;
+            this.yOffset = this.worldGenBuilding.getYOffset();
             return this;
         }
 
         public boolean generate() {
             try {
+                //reseeding for each layer makes a resumed building generate the same as an uninterrupted one
+                random.setSeed(seed + currentLayer);
                 if (currentLayer >= worldGenBuilding.getLayerCount()) {
                     worldGenBuilding.onGeneration(random, world, x, y, z);
                     return true;
                 } else {
-                    worldGenBuilding.generate(random, x, y, z, world, chunkGenerator, chunkProvider, currentLayer, placeNotify);
+                    worldGenBuilding.generateFromImage(world, random, x, y + yOffset, z, currentLayer, placeNotify);
                     currentLayer++;
                     return false;
                 }
 
             } catch (Exception e) {
-                MOLog.log(Level.ERROR, e, "There was a problem while generating layer %s of %s", currentLayer, worldGenBuilding.getName());
+                MOLog.log(Level.ERROR, e, "There was a problem while generating layer %s of %s. The building will not be generated further.", currentLayer, worldGenBuilding.getName());
+                failed = true;
             }
             return false;
         }
 
+        public boolean hasFailed() {
+            return failed;
+        }
+
+        /**
+         * Blocks are only placed in loaded chunks, so a building never loads or generates chunks around it.
+         *
+         * @return are all the chunks the building covers loaded.
+         */
+        public boolean isAreaLoaded() {
+            return world.checkChunksExist(x, 0, z, x + worldGenBuilding.layerWidth, 0, z + worldGenBuilding.layerHeight);
+        }
+
         public WorldGenBuildingWorker setPlaceNotify(int placeNotify) {
             this.placeNotify = placeNotify;
             return this;
         }
+
+        public World getWorld() {
+            return world;
+        }
+
+        //region NBT
+        public void writeToNBT(NBTTagCompound tagCompound) {
+            tagCompound.setString("Building", worldGenBuilding.getName());
+            tagCompound.setInteger("X", x);
+            tagCompound.setInteger("Y", y);
+            tagCompound.setInteger("Z", z);
+            tagCompound.setInteger("YOffset", yOffset);
+            tagCompound.setInteger("Layer", currentLayer);
+            tagCompound.setInteger("PlaceNotify", placeNotify);
+            tagCompound.setLong("Seed", seed);
+        }
+
+        public WorldGenBuildingWorker readFromNBT(NBTTagCompound tagCompound, MOWorldGenBuilding worldGenBuilding, World world) {
+            this.worldGenBuilding = worldGenBuilding;
+            this.worldGenBuilding.manageTextureLoading();
+            this.world = world;
+            this.x = tagCompound.getInteger("X");
+            this.y = tagCompound.getInteger("Y");
+            this.z = tagCompound.getInteger("Z");
+            this.yOffset = tagCompound.getInteger("YOffset");
+            this.currentLayer = tagCompound.getInteger("Layer");
+            this.placeNotify = tagCompound.getInteger("PlaceNotify");
+            this.seed = tagCompound.getLong("Seed");
+            this.random = new Random(seed);
+            return this;
+        }
+        //endregion
     }
 }